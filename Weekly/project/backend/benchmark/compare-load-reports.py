@@ -0,0 +1,61 @@
+#!/usr/bin/env python3
+# Compares two HttpLoadHarness reports (for example the last release against a
+# candidate) and prints the change in throughput, latency and response size
+# per scenario. Changes beyond the threshold are marked, and the script exits
+# non-zero when a scenario regressed so it can gate a release.
+#
+# Usage: benchmark/compare-load-reports.py baseline.csv candidate.csv [threshold-percent]
+import csv
+import sys
+
+METRICS = [("ops_per_s", True), ("p50_ms", False), ("p95_ms", False), ("p99_ms", False), ("avg_kb", False)]
+
+
+def load(path):
+    with open(path) as report:
+        header = report.readline().strip()
+        rows = {row["scenario"]: row for row in csv.DictReader(report)}
+    return header, rows
+
+
+def change(old, new):
+    if old == 0:
+        return 0.0 if new == 0 else float("inf")
+    return (new - old) / old * 100
+
+
+def main():
+    if len(sys.argv) < 3:
+        sys.exit(__doc__ or "usage: compare-load-reports.py baseline.csv candidate.csv [threshold-percent]")
+    threshold = float(sys.argv[3]) if len(sys.argv) > 3 else 10.0
+    base_header, base = load(sys.argv[1])
+    cand_header, cand = load(sys.argv[2])
+    print("baseline: ", base_header.lstrip("# "))
+    print("candidate:", cand_header.lstrip("# "))
+    print()
+    print(f"{'scenario':<20}" + "".join(f"{name:>22}" for name, _ in METRICS) + f"{'errors':>12}")
+
+    regressions = 0
+    for scenario in list(base) + [s for s in cand if s not in base]:
+        if scenario not in base or scenario not in cand:
+            print(f"{scenario:<20} only in {'candidate' if scenario in cand else 'baseline'}")
+            continue
+        line = f"{scenario:<20}"
+        for name, higher_is_better in METRICS:
+            old, new = float(base[scenario][name]), float(cand[scenario][name])
+            delta = change(old, new)
+            worse = delta < -threshold if higher_is_better else delta > threshold
+            regressions += worse
+            line += f"{new:>10.2f} ({delta:+6.1f}%){'!' if worse else ' '}"
+        old_errors, new_errors = int(base[scenario]["errors"]), int(cand[scenario]["errors"])
+        regressions += new_errors > old_errors
+        line += f"{old_errors:>6} -> {new_errors:<4}"
+        print(line)
+
+    print()
+    print(f"{regressions} metric(s) worse than {threshold:.0f}%" if regressions else "no regressions")
+    sys.exit(1 if regressions else 0)
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,75 @@
+#!/usr/bin/env python3
+# Opens N dashboard streams, measures the backend's thread count and CPU while
+# they sit idle, then changes one payment and reports how long it takes every
+# subscriber to receive the update.
+#
+# Usage: benchmark/dashboard-stream-benchmark.py [base-url] [subscribers] [backend-pid]
+# Needs a running backend with data; CPU and threads are read from /proc, so
+# pass the backend's pid when it runs on the same host. Payment 10 is toggled
+# between PAID and DUE.
+import asyncio
+import sys
+import time
+import urllib.parse
+import urllib.request
+
+BASE = sys.argv[1] if len(sys.argv) > 1 else "http://localhost:8080"
+SUBSCRIBERS = int(sys.argv[2]) if len(sys.argv) > 2 else 500
+PID = sys.argv[3] if len(sys.argv) > 3 else None
+IDLE_SECONDS = 10
+
+
+def cpu_ticks():
+    with open(f"/proc/{PID}/stat") as stat:
+        fields = stat.read().rsplit(")", 1)[1].split()
+    return int(fields[11]) + int(fields[12])
+
+
+def threads():
+    with open(f"/proc/{PID}/status") as status:
+        return next(line.split()[1] for line in status if line.startswith("Threads:"))
+
+
+async def subscribe(url, connected, received):
+    reader, writer = await asyncio.open_connection(url.hostname, url.port or 80)
+    writer.write(f"GET /api/dashboard/stream HTTP/1.1\r\nHost: {url.netloc}\r\n"
+                 "Accept: text/event-stream\r\n\r\n".encode())
+    await writer.drain()
+    updates = 0
+    while line := await reader.readline():
+        if line.startswith(b"event:update"):
+            updates += 1
+            if updates == 1:
+                connected.append(time.time())
+            elif updates == 2:
+                received.append(time.time())
+                writer.close()
+                return
+
+
+async def main():
+    url = urllib.parse.urlparse(BASE)
+    connected, received = [], []
+    tasks = [asyncio.create_task(subscribe(url, connected, received)) for _ in range(SUBSCRIBERS)]
+    while len(connected) < SUBSCRIBERS:
+        await asyncio.sleep(0.2)
+    print(f"subscribers open          {SUBSCRIBERS}")
+    if PID:
+        print(f"backend threads           {threads()}")
+        before = cpu_ticks()
+        await asyncio.sleep(IDLE_SECONDS)
+        print(f"idle CPU over {IDLE_SECONDS}s         {(cpu_ticks() - before) * 10} ms")
+
+    status = "DUE" if b'"status":"PAID"' in urllib.request.urlopen(f"{BASE}/api/payments/customer/1").read() \
+        .split(b'"id":10,', 1)[1].split(b"}", 1)[0] else "PAID"
+    changed = time.time()
+    request = urllib.request.Request(f"{BASE}/api/payments/10/status?status={status}", method="PUT")
+    urllib.request.urlopen(request).read()
+    await asyncio.wait(tasks, timeout=30)
+    delays = sorted(t - changed for t in received)
+    print(f"received update           {len(received)}/{SUBSCRIBERS}")
+    if delays:
+        print(f"delay after change        median {delays[len(delays) // 2]:.2f}s, max {delays[-1]:.2f}s")
+
+
+asyncio.run(main())
@@ -0,0 +1,39 @@
+#!/usr/bin/env sh
+# Compares payload size and response time of plain JSON against the columnar
+# representation, with and without gzip, for the customer and payment reads.
+#
+# Usage: benchmark/payload-benchmark.sh [base-url] [runs]
+# Needs a running backend with data; time is the median of the runs and, since
+# the database work is identical across formats, differences are serialisation.
+set -eu
+
+BASE="${1:-http://localhost:8080}"
+RUNS="${2:-5}"
+COLUMNAR="application/vnd.weekly.columnar+json"
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+measure() {
+    path="$1"; accept="$2"; encoding="$3"
+    size=$(curl -s -o /dev/null -w "%{size_download}" -H "Accept: $accept" -H "Accept-Encoding: $encoding" "$BASE$path")
+    time=$(i=0; while [ "$i" -lt "$RUNS" ]; do
+        curl -s -o /dev/null -w "%{time_total}\n" -H "Accept: $accept" -H "Accept-Encoding: $encoding" "$BASE$path"
+        i=$((i + 1))
+    done | median)
+    printf "%-45s %-9s %-8s %12s %8s\n" "$path" "$([ "$accept" = "$COLUMNAR" ] && echo columnar || echo json)" "$encoding" "$size" "$time"
+}
+
+printf "%-45s %-9s %-8s %12s %8s\n" "endpoint" "format" "encoding" "bytes" "seconds"
+for path in \
+    "/api/payments/customer/1" \
+    "/api/customers/1" \
+    "/api/customers/search?query=Cust%2099" \
+    "/api/payments/reports?startDate=2026-03-01&endDate=2026-03-31"; do
+    for accept in application/json "$COLUMNAR"; do
+        for encoding in identity gzip; do
+            measure "$path" "$accept" "$encoding"
+        done
+    done
+done
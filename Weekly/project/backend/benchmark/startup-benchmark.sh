@@ -0,0 +1,56 @@
+#!/usr/bin/env sh
+# Measures time-to-started and resident set size of the backend for each startup mode.
+#
+# Usage: benchmark/startup-benchmark.sh [runs]
+# Build first with: mvn -B clean package -DskipTests -Paot
+#
+# The datasource points at a closed local port on purpose: the prod profile must
+# start without touching the database, so any mode that needs it fails loudly here.
+set -eu
+
+RUNS="${1:-5}"
+DIR="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="$(ls "$DIR"/target/weekly-payment-backend-*.jar | head -n 1)"
+WORK="$(mktemp -d)"
+PORT=18080
+COMMON="--server.port=$PORT --spring.profiles.active=prod --spring.datasource.url=jdbc:postgresql://127.0.0.1:1/none --app.admin.bootstrap-enabled=false"
+
+# Unpacked classpath for the CDS mode (a CDS archive cannot cover nested jars)
+mkdir -p "$WORK/cds/lib" "$WORK/unpacked"
+(cd "$WORK/unpacked" && jar xf "$JAR" BOOT-INF)
+cp "$WORK"/unpacked/BOOT-INF/lib/*.jar "$WORK/cds/lib/"
+jar cf "$WORK/cds/application.jar" -C "$WORK/unpacked/BOOT-INF/classes" .
+CDS_CP="$WORK/cds/application.jar:$WORK/cds/lib/*"
+MAIN=com.paymentmanagement.WeeklyPaymentApplication
+java -XX:ArchiveClassesAtExit="$WORK/cds/app.jsa" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+    -cp "$CDS_CP" $MAIN $COMMON > "$WORK/cds-training.log" 2>&1
+
+measure() {
+    name="$1"; shift
+    i=1
+    while [ "$i" -le "$RUNS" ]; do
+        log="$WORK/$name-$i.log"
+        "$@" > "$log" 2>&1 &
+        pid=$!
+        until grep -q "Started WeeklyPaymentApplication" "$log"; do
+            if ! kill -0 "$pid" 2>/dev/null; then echo "$name: failed to start, see $log" >&2; exit 1; fi
+            sleep 0.1
+        done
+        # Resident memory once the context is up, and again after the first request
+        rss_started=$(awk '/VmRSS/ {print $2}' /proc/$pid/status)
+        curl -s -o /dev/null "http://localhost:$PORT/api/customers" || true
+        rss_served=$(awk '/VmRSS/ {print $2}' /proc/$pid/status)
+        started=$(sed -n 's/.*Started WeeklyPaymentApplication in \([0-9.]*\) seconds (process running for \([0-9.]*\)).*/\1 \2/p' "$log")
+        echo "$name $i $started $rss_started $rss_served"
+        kill "$pid"; wait "$pid" 2>/dev/null || true
+        i=$((i + 1))
+    done
+}
+
+echo "mode run context_s process_s rss_started_kb rss_first_request_kb"
+measure eager      java -jar "$JAR" $COMMON --spring.main.lazy-initialization=false
+measure lazy       java -jar "$JAR" $COMMON
+measure lazy-aot   java -Dspring.aot.enabled=true -jar "$JAR" $COMMON
+measure lazy-aot-cds java -XX:SharedArchiveFile="$WORK/cds/app.jsa" -Dspring.aot.enabled=true -cp "$CDS_CP" $MAIN $COMMON
+
+rm -rf "$WORK"
@@ -2,10 +2,16 @@ package com.paymentmanagement;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableAsync
+@EnableRetry
+@EnableScheduling
 public class WeeklyPaymentApplication {
     public static void main(String[] args) {
         SpringApplication.run(WeeklyPaymentApplication.class, args);
     }
-}
\ No newline at end of file
+}
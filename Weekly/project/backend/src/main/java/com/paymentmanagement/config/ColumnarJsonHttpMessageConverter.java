@@ -0,0 +1,192 @@
+package com.paymentmanagement.config;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.paymentmanagement.dto.CustomerDTO;
+import com.paymentmanagement.dto.PaymentDTO;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Opt-in compact encoding for customer and payment reads, selected with
+ * {@code Accept: application/vnd.weekly.columnar+json}.
+ *
+ * <p>Lists are written column by column ({@code {"id":[1,2],"amount":[500.0,500.0]}})
+ * so field names appear once per list instead of once per element, dates are
+ * epoch days, and payments nested in a customer omit the repeated customerId.
+ */
+public class ColumnarJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType COLUMNAR_JSON = new MediaType("application", "vnd.weekly.columnar+json");
+
+    private final JsonFactory jsonFactory;
+
+    public ColumnarJsonHttpMessageConverter(JsonFactory jsonFactory) {
+        super(COLUMNAR_JSON);
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CustomerDTO.class == clazz || List.class.isAssignableFrom(clazz);
+    }
+
+    // Never chosen for wildcard or missing Accept headers, so plain JSON stays the default
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        if (mediaType == null || !COLUMNAR_JSON.isCompatibleWith(mediaType) || mediaType.isWildcardSubtype()) {
+            return false;
+        }
+        if (CustomerDTO.class == clazz) {
+            return true;
+        }
+        Class<?> element = listElementType(type);
+        return element == CustomerDTO.class || element == PaymentDTO.class;
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(Object value, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(outputMessage.getBody(), JsonEncoding.UTF8)) {
+            if (value instanceof CustomerDTO customer) {
+                writeCustomer(generator, customer);
+            } else if (listElementType(type) == CustomerDTO.class) {
+                @SuppressWarnings("unchecked")
+                List<CustomerDTO> customers = (List<CustomerDTO>) value;
+                writeCustomers(generator, customers);
+            } else {
+                @SuppressWarnings("unchecked")
+                List<PaymentDTO> payments = (List<PaymentDTO>) value;
+                writePayments(generator, payments, true);
+            }
+        }
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar JSON is a read-only representation", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Columnar JSON is a read-only representation", inputMessage);
+    }
+
+    private void writeCustomer(JsonGenerator generator, CustomerDTO customer) throws IOException {
+        generator.writeStartObject();
+        writeField(generator, "id", customer.getId());
+        writeField(generator, "name", customer.getName());
+        writeField(generator, "phone", customer.getPhone());
+        writeField(generator, "totalAmount", customer.getTotalAmount());
+        writeField(generator, "dateOfAmountTaken", epochDay(customer.getDateOfAmountTaken()));
+        writeField(generator, "dayOfAmountTaken", customer.getDayOfAmountTaken());
+        writeField(generator, "weeklyAmount", customer.getWeeklyAmount());
+        writeField(generator, "version", customer.getVersion());
+        generator.writeFieldName("payments");
+        writePayments(generator, customer.getPayments(), false);
+        generator.writeEndObject();
+    }
+
+    private void writeCustomers(JsonGenerator generator, List<CustomerDTO> customers) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("count", customers.size());
+        writeColumn(generator, "id", customers, CustomerDTO::getId);
+        writeColumn(generator, "name", customers, CustomerDTO::getName);
+        writeColumn(generator, "phone", customers, CustomerDTO::getPhone);
+        writeColumn(generator, "totalAmount", customers, CustomerDTO::getTotalAmount);
+        writeColumn(generator, "dateOfAmountTaken", customers, c -> epochDay(c.getDateOfAmountTaken()));
+        writeColumn(generator, "dayOfAmountTaken", customers, CustomerDTO::getDayOfAmountTaken);
+        writeColumn(generator, "weeklyAmount", customers, CustomerDTO::getWeeklyAmount);
+        writeColumn(generator, "version", customers, CustomerDTO::getVersion);
+        generator.writeArrayFieldStart("payments");
+        for (CustomerDTO customer : customers) {
+            writePayments(generator, customer.getPayments(), false);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writePayments(JsonGenerator generator, @Nullable List<PaymentDTO> payments, boolean withCustomerId)
+            throws IOException {
+        if (payments == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeNumberField("count", payments.size());
+        writeColumn(generator, "id", payments, PaymentDTO::getId);
+        writeColumn(generator, "paymentDate", payments, p -> epochDay(p.getPaymentDate()));
+        writeColumn(generator, "amount", payments, PaymentDTO::getAmount);
+        writeColumn(generator, "status", payments, PaymentDTO::getStatus);
+        writeColumn(generator, "weekNumber", payments, PaymentDTO::getWeekNumber);
+        writeColumn(generator, "paidDate", payments, p -> epochDay(p.getPaidDate()));
+        if (withCustomerId) {
+            writeColumn(generator, "customerId", payments, PaymentDTO::getCustomerId);
+        }
+        writeColumn(generator, "version", payments, PaymentDTO::getVersion);
+        generator.writeEndObject();
+    }
+
+    private <T> void writeColumn(JsonGenerator generator, String name, List<T> rows, Function<T, Object> getter)
+            throws IOException {
+        generator.writeArrayFieldStart(name);
+        for (T row : rows) {
+            writeValue(generator, getter.apply(row));
+        }
+        generator.writeEndArray();
+    }
+
+    // Scalars are written directly: going through the ObjectMapper flushes after
+    // every value, which defeats response compression
+    private void writeValue(JsonGenerator generator, @Nullable Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof Long l) {
+            generator.writeNumber(l);
+        } else if (value instanceof Integer i) {
+            generator.writeNumber(i);
+        } else if (value instanceof Double d) {
+            generator.writeNumber(d);
+        } else if (value instanceof Enum<?> e) {
+            generator.writeString(e.name());
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
+    private void writeField(JsonGenerator generator, String name, @Nullable Object value) throws IOException {
+        generator.writeFieldName(name);
+        writeValue(generator, value);
+    }
+
+    @Nullable
+    private static Long epochDay(@Nullable LocalDate date) {
+        return date != null ? date.toEpochDay() : null;
+    }
+
+    @Nullable
+    private static Class<?> listElementType(@Nullable Type type) {
+        if (type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() instanceof Class<?> raw && List.class.isAssignableFrom(raw)
+                && parameterized.getActualTypeArguments()[0] instanceof Class<?> element) {
+            return element;
+        }
+        return null;
+    }
+}
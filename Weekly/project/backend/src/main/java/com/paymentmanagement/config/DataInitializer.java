@@ -1,19 +1,52 @@
 package com.paymentmanagement.config;
 
 import com.paymentmanagement.service.AdminService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
-public class DataInitializer implements CommandLineRunner {
+public class DataInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
 
     @Autowired
     private AdminService adminService;
 
-    @Override
-    public void run(String... args) throws Exception {
-        // Create default admin if not exists
-        adminService.createDefaultAdmin();
+    @Value("${app.tenants:" + TenantContext.DEFAULT_TENANT + "}")
+    private List<String> tenants;
+
+    // Checked when the listener runs rather than as a bean condition: AOT builds
+    // evaluate conditions at build time, which would ignore the runtime setting
+    @Value("${app.admin.bootstrap-enabled:true}")
+    private boolean bootstrapEnabled;
+
+    // Runs after the application is ready and off the startup thread, so the
+    // database round trip is not on the critical path of a (re)start
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!bootstrapEnabled) {
+            return;
+        }
+        for (String tenantId : tenants) {
+            TenantContext.setTenantId(tenantId);
+            try {
+                // Create default admin if not exists
+                adminService.createDefaultAdmin();
+            } catch (RuntimeException e) {
+                log.warn("Default admin bootstrap failed for tenant {}, will retry on next start: {}",
+                        tenantId, e.getMessage());
+            } finally {
+                TenantContext.clear();
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package com.paymentmanagement.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Assigns a controller method (or every method of a controller) to an
+ * endpoint class whose concurrency limit, rate limit and timeout are
+ * configured under {@code app.resilience.classes.<name>}. Unannotated
+ * methods belong to {@link #DEFAULT}. A single method can be moved to
+ * another class with {@code app.resilience.methods.<Controller>.<method>=<name>}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EndpointClass {
+
+    String DEFAULT = "default";
+
+    String value();
+}
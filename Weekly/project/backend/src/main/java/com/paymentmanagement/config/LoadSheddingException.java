@@ -0,0 +1,22 @@
+package com.paymentmanagement.config;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown by ResilienceAspect when a request is rejected before it reaches
+ * the controller (429) or ran past its endpoint class timeout (503).
+ */
+public class LoadSheddingException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final long retryAfterSeconds;
+
+    public LoadSheddingException(HttpStatus status, String message, long retryAfterSeconds) {
+        super(message);
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public HttpStatus getStatus() { return status; }
+    public long getRetryAfterSeconds() { return retryAfterSeconds; }
+}
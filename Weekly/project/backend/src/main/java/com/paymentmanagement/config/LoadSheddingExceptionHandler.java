@@ -0,0 +1,20 @@
+package com.paymentmanagement.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+// Retry-After tells well-behaved clients when to come back instead of retrying at once
+@RestControllerAdvice
+public class LoadSheddingExceptionHandler {
+
+    @ExceptionHandler(LoadSheddingException.class)
+    public ResponseEntity<Map<String, String>> handleLoadShedding(LoadSheddingException e) {
+        return ResponseEntity.status(e.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of("message", e.getMessage()));
+    }
+}
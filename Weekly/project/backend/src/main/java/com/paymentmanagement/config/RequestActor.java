@@ -0,0 +1,41 @@
+package com.paymentmanagement.config;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Names who is making the current change, for the payment audit log. Uses
+ * the authenticated principal when there is one, otherwise the
+ * {@code X-Actor} header the admin UI sends (the admin's phone). Work outside
+ * a request is attributed to "system".
+ */
+public final class RequestActor {
+
+    public static final String HEADER = "X-Actor";
+    public static final String ANONYMOUS = "anonymous";
+    public static final String SYSTEM = "system";
+
+    private static final int MAX_LENGTH = 64;
+
+    private RequestActor() {}
+
+    public static String current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return truncate(authentication.getName());
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            String header = attributes.getRequest().getHeader(HEADER);
+            return header != null && !header.isBlank() ? truncate(header.trim()) : ANONYMOUS;
+        }
+        return SYSTEM;
+    }
+
+    private static String truncate(String actor) {
+        return actor.length() > MAX_LENGTH ? actor.substring(0, MAX_LENGTH) : actor;
+    }
+}
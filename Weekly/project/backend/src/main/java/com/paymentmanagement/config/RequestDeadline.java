@@ -0,0 +1,53 @@
+package com.paymentmanagement.config;
+
+/**
+ * Deadline of the request handled on the current thread, set by
+ * ResilienceAspect from the endpoint class timeout. StatementTimeoutConfig
+ * turns the time left into the JDBC query timeout of every statement the
+ * request opens, so the database cancels work nobody is waiting for.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private RequestDeadline() {}
+
+    /** Deadline as a System.nanoTime() value, or null when the request has none. */
+    public static Long get() {
+        return CURRENT.get();
+    }
+
+    public static void set(Long deadlineNanos) {
+        if (deadlineNanos != null) {
+            CURRENT.set(deadlineNanos);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    public static boolean isExpired() {
+        Long deadline = CURRENT.get();
+        return deadline != null && System.nanoTime() - deadline >= 0;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Wraps work done on another thread on behalf of the current request, so
+     * its statements are cancelled at the request's deadline too. Not for
+     * background work that should outlive the request.
+     */
+    public static Runnable propagate(Runnable task) {
+        Long deadline = CURRENT.get();
+        return () -> {
+            set(deadline);
+            try {
+                task.run();
+            } finally {
+                clear();
+            }
+        };
+    }
+}
@@ -0,0 +1,157 @@
+package com.paymentmanagement.config;
+
+import com.paymentmanagement.service.ResilienceService;
+import com.paymentmanagement.service.ResilienceService.EndpointPolicy;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs every controller call inside its endpoint class's rate limit and
+ * bulkhead, and under its timeout. The slot is held until the response is
+ * complete: for CompletableFuture results until the future completes, for
+ * streamed exports until the body is written or the async request ends. Rejections surface as
+ * LoadSheddingException (429); calls that fail after their deadline are
+ * answered with 503 instead of the controller's own error.
+ */
+@Aspect
+@Component
+public class ResilienceAspect {
+
+    @Autowired
+    private ResilienceService resilienceService;
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)")
+    public Object guard(ProceedingJoinPoint joinPoint) throws Throwable {
+        EndpointPolicy policy = resilienceService.policyFor(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), joinPoint.getTarget().getClass());
+        if (policy == null) {
+            return joinPoint.proceed();
+        }
+        policy.acquire();
+        long started = System.nanoTime();
+        Long deadline = policy.deadlineFrom(started);
+        boolean handedOff = false;
+        boolean timedOut = false;
+        RequestDeadline.set(deadline);
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof CompletableFuture<?> future) {
+                handedOff = true;
+                return guardFuture(future, policy, started, deadline);
+            }
+            if (result instanceof ResponseEntity<?> entity && entity.getBody() instanceof StreamingResponseBody body) {
+                handedOff = true;
+                return new ResponseEntity<>(guardStream(body, policy, started, deadline),
+                        entity.getHeaders(), entity.getStatusCode());
+            }
+            // Controllers turn failures into 404/500 themselves; when the
+            // deadline cancelled the query, say so instead
+            if (result instanceof ResponseEntity<?> entity && entity.getStatusCode().isError()
+                    && RequestDeadline.isExpired()) {
+                timedOut = true;
+                throw policy.timeoutException();
+            }
+            return result;
+        } catch (RuntimeException e) {
+            if (!timedOut && !(e instanceof LoadSheddingException) && RequestDeadline.isExpired()) {
+                timedOut = true;
+                throw policy.timeoutException();
+            }
+            throw e;
+        } finally {
+            // A late answer still counts: the work between statements is not cancelled
+            boolean late = timedOut || RequestDeadline.isExpired();
+            RequestDeadline.clear();
+            if (!handedOff) {
+                policy.release(System.nanoTime() - started, late);
+            }
+        }
+    }
+
+    private CompletableFuture<Object> guardFuture(CompletableFuture<?> future, EndpointPolicy policy, long started,
+                                                  Long deadline) {
+        CompletableFuture<Object> guarded = future.thenApply(result -> result);
+        if (deadline != null) {
+            guarded = guarded.orTimeout(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+        return guarded.handle((result, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            boolean timedOut = cause instanceof TimeoutException;
+            policy.release(System.nanoTime() - started, timedOut);
+            if (timedOut) {
+                throw new CompletionException(policy.timeoutException());
+            }
+            if (error != null) {
+                throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+            }
+            return result;
+        });
+    }
+
+    // Exports run on an MVC async thread; the deadline and the slot move there.
+    // The slot is released once, when the body finishes or when the async
+    // request ends without running it (executor rejection, timeout, client gone)
+    private StreamingResponseBody guardStream(StreamingResponseBody body, EndpointPolicy policy, long started,
+                                              Long deadline) {
+        AtomicBoolean released = new AtomicBoolean();
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            WebAsyncUtils.getAsyncManager(attributes.getRequest()).registerCallableInterceptor(
+                    ResilienceAspect.class.getName(), new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> Object handleTimeout(NativeWebRequest request, Callable<T> task) {
+                            releaseOnce(released, policy, started, true);
+                            return RESULT_NONE;
+                        }
+
+                        @Override
+                        public <T> Object handleError(NativeWebRequest request, Callable<T> task, Throwable t) {
+                            releaseOnce(released, policy, started, false);
+                            return RESULT_NONE;
+                        }
+
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                            releaseOnce(released, policy, started, false);
+                        }
+                    });
+        }
+        return outputStream -> {
+            RequestDeadline.set(deadline);
+            boolean timedOut = false;
+            try {
+                body.writeTo(outputStream);
+            } catch (RuntimeException e) {
+                timedOut = RequestDeadline.isExpired();
+                throw e;
+            } finally {
+                RequestDeadline.clear();
+                releaseOnce(released, policy, started, timedOut);
+            }
+        };
+    }
+
+    private static void releaseOnce(AtomicBoolean released, EndpointPolicy policy, long started, boolean timedOut) {
+        if (released.compareAndSet(false, true)) {
+            policy.release(System.nanoTime() - started, timedOut);
+        }
+    }
+}
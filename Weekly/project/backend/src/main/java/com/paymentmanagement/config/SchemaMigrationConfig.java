@@ -0,0 +1,80 @@
+package com.paymentmanagement.config;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.AbstractBeansOfTypeDatabaseInitializerDetector;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import javax.sql.DataSource;
+import java.util.Set;
+
+/**
+ * Applies the Flyway scripts in db/migration before JPA or JDBC touch the
+ * database. Boot's Flyway auto-configuration is switched off
+ * (spring.flyway.enabled=false): its Flyway bean opens a connection as soon as
+ * it is created, even with migrations disabled, and AOT builds fix that
+ * condition at build time. Here the switch is read at runtime, so the
+ * Dockerfile's training run can start the context without a database.
+ */
+@Configuration
+@ImportRuntimeHints(SchemaMigrationConfig.MigrationResourcesHints.class)
+public class SchemaMigrationConfig {
+
+    @Bean
+    public SchemaMigration schemaMigration(DataSource dataSource,
+                                           @Value("${app.schema.migrate-on-start:true}") boolean migrateOnStart) {
+        return new SchemaMigration(dataSource, migrateOnStart);
+    }
+
+    public static class SchemaMigration implements InitializingBean {
+
+        private static final Logger log = LoggerFactory.getLogger(SchemaMigration.class);
+
+        private final DataSource dataSource;
+        private final boolean migrateOnStart;
+
+        SchemaMigration(DataSource dataSource, boolean migrateOnStart) {
+            this.dataSource = dataSource;
+            this.migrateOnStart = migrateOnStart;
+        }
+
+        @Override
+        public void afterPropertiesSet() {
+            if (!migrateOnStart) {
+                log.info("Schema migration skipped (app.schema.migrate-on-start=false)");
+                return;
+            }
+            // Databases created by Hibernate before the scripts existed are
+            // baselined at 0, so every script runs; they skip what already exists
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations("classpath:db/migration")
+                    .baselineOnMigrate(true)
+                    .baselineVersion("0")
+                    .load()
+                    .migrate();
+        }
+    }
+
+    // Makes EntityManagerFactory, JdbcTemplate and other database users depend on SchemaMigration
+    public static class SchemaMigrationDetector extends AbstractBeansOfTypeDatabaseInitializerDetector {
+        @Override
+        protected Set<Class<?>> getDatabaseInitializerBeanTypes() {
+            return Set.of(SchemaMigration.class);
+        }
+    }
+
+    static class MigrationResourcesHints implements RuntimeHintsRegistrar {
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources().registerPattern("db/migration/*.sql");
+        }
+    }
+}
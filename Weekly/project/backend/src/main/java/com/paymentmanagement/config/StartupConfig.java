@@ -0,0 +1,18 @@
+package com.paymentmanagement.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StartupConfig {
+
+    // With spring.main.lazy-initialization=true (prod profile) the web and service
+    // layers are created on first use, but the JPA metamodel is still built at
+    // startup so mapping errors fail the deployment instead of the first request
+    @Bean
+    public static LazyInitializationExcludeFilter eagerEntityManagerFactory() {
+        return LazyInitializationExcludeFilter.forBeanTypes(EntityManagerFactory.class);
+    }
+}
@@ -0,0 +1,95 @@
+package com.paymentmanagement.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+
+/**
+ * Gives every JDBC statement opened by a request with a deadline (see
+ * RequestDeadline) the time left as its query timeout. The PostgreSQL driver
+ * sends a cancel request when it runs out, so the database stops working on
+ * a result nobody will receive and the pooled connection comes back. Covers
+ * JPA and JdbcTemplate alike; background work has no deadline and is
+ * untouched.
+ */
+@Configuration
+public class StatementTimeoutConfig {
+
+    // Static: a BeanPostProcessor must not wait for its configuration class
+    @Bean
+    public static BeanPostProcessor statementTimeoutDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof DeadlineDataSource)
+                        ? new DeadlineDataSource(dataSource) : bean;
+            }
+        };
+    }
+
+    static final class DeadlineDataSource extends DelegatingDataSource implements AutoCloseable {
+
+        DeadlineDataSource(DataSource target) {
+            super(target);
+        }
+
+        // Keeps the pool's shutdown hook: the container only closes what it sees
+        @Override
+        public void close() throws Exception {
+            if (getTargetDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return withDeadline(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return withDeadline(super.getConnection(username, password));
+        }
+
+        private Connection withDeadline(Connection connection) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+                if (result instanceof Statement statement) {
+                    applyDeadline(statement);
+                }
+                return result;
+            };
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, handler);
+        }
+
+        private void applyDeadline(Statement statement) throws SQLException {
+            Long deadline = RequestDeadline.get();
+            if (deadline == null) {
+                return;
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                statement.close();
+                throw new SQLTimeoutException("Request deadline exceeded before the statement was executed");
+            }
+            // JDBC timeouts are whole seconds; round up so short budgets still run
+            statement.setQueryTimeout((int) Math.max(1, (remainingNanos + 999_999_999L) / 1_000_000_000L));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.paymentmanagement.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+@Configuration
+public class TenantConfig {
+
+    // Entities with @TenantId are stamped and filtered with this tenant
+    @Bean
+    public HibernatePropertiesCustomizer tenantIdentifierResolverCustomizer() {
+        return properties -> properties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER,
+                new TenantIdentifierResolver());
+    }
+
+    // Picked up by the auto-configured application task executor, which runs
+    // @Async methods and MVC async work
+    @Bean
+    public TaskDecorator tenantTaskDecorator() {
+        return task -> {
+            String tenantId = TenantContext.getTenantId();
+            return () -> {
+                TenantContext.setTenantId(tenantId);
+                try {
+                    task.run();
+                } finally {
+                    TenantContext.clear();
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.paymentmanagement.config;
+
+/**
+ * Holds the tenant (lending branch) of the current request. Set by
+ * TenantFilter, propagated to @Async work by TenantConfig, and read by
+ * Hibernate through TenantIdentifierResolver to scope every entity query.
+ */
+public final class TenantContext {
+
+    public static final String DEFAULT_TENANT = "default";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {}
+
+    public static String getTenantId() {
+        String tenantId = CURRENT.get();
+        return tenantId != null ? tenantId : DEFAULT_TENANT;
+    }
+
+    public static void setTenantId(String tenantId) {
+        CURRENT.set(tenantId);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
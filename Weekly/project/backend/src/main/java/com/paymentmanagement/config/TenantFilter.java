@@ -0,0 +1,114 @@
+package com.paymentmanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves the tenant of the request. After an admin signs in, the tenant
+ * stored in their session is used, and an {@code X-Tenant-ID} header (or
+ * {@code tenant} query parameter on GET requests) naming another tenant is
+ * rejected. Without a session only the default tenant can be used, except on
+ * the sign-in endpoints, where the header names the tenant whose admin is
+ * signing in. Unknown tenants are rejected.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TenantFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Tenant-ID";
+    public static final String PARAMETER = "tenant";
+    public static final String SESSION_ATTRIBUTE = TenantFilter.class.getName() + ".tenant";
+
+    // These check the admin's password themselves
+    private static final Set<String> SIGN_IN_PATHS = Set.of("/api/admin/login", "/api/admin/change-password");
+
+    @Value("${app.tenants:" + TenantContext.DEFAULT_TENANT + "}")
+    private Set<String> tenants;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HEADER);
+        // EventSource cannot set headers, so GET requests may name the tenant in the query string
+        if (header == null && "GET".equals(request.getMethod())) {
+            header = request.getParameter(PARAMETER);
+        }
+        String requested = header != null ? header.trim() : null;
+
+        String tenantId;
+        String signedIn = signedInTenant(request);
+        if (signedIn != null && !SIGN_IN_PATHS.contains(request.getRequestURI())) {
+            if (requested != null && !requested.equals(signedIn)) {
+                writeError(response, HttpStatus.FORBIDDEN, "Signed in to tenant " + signedIn + ", not " + requested);
+                return;
+            }
+            tenantId = signedIn;
+        } else {
+            tenantId = requested != null ? requested : TenantContext.DEFAULT_TENANT;
+            if (!tenantId.equals(TenantContext.DEFAULT_TENANT) && !SIGN_IN_PATHS.contains(request.getRequestURI())) {
+                writeError(response, HttpStatus.UNAUTHORIZED, "Sign in to use tenant " + tenantId);
+                return;
+            }
+        }
+        if (!tenants.contains(tenantId)) {
+            writeError(response, HttpStatus.BAD_REQUEST, "Unknown tenant: " + tenantId);
+            return;
+        }
+
+        TenantContext.setTenantId(tenantId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    /**
+     * Binds later requests of this client to the admin's tenant. The old
+     * session is discarded so a session id known before sign-in cannot be reused.
+     */
+    public static void signIn(HttpServletRequest request, String tenantId) {
+        HttpSession existing = request.getSession(false);
+        if (existing != null) {
+            existing.invalidate();
+        }
+        request.getSession(true).setAttribute(SESSION_ATTRIBUTE, tenantId);
+    }
+
+    public static void signOut(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
+    }
+
+    private static String signedInTenant(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        return session != null ? (String) session.getAttribute(SESSION_ATTRIBUTE) : null;
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of("message", message));
+    }
+}
@@ -0,0 +1,16 @@
+package com.paymentmanagement.config;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver {
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        return TenantContext.getTenantId();
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return true;
+    }
+}
@@ -1,12 +1,17 @@
 package com.paymentmanagement.controller;
 
+import com.paymentmanagement.config.EndpointClass;
+import com.paymentmanagement.config.TenantContext;
+import com.paymentmanagement.config.TenantFilter;
 import com.paymentmanagement.dto.AdminStatsDTO;
 import com.paymentmanagement.service.AdminService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -16,18 +21,23 @@ public class AdminController {
     @Autowired
     private AdminService adminService;
 
+    @EndpointClass("auth")
     @PostMapping("/login")
-    public ResponseEntity<Map<String, Object>> login(@RequestBody Map<String, String> credentials) {
+    public ResponseEntity<Map<String, Object>> login(@RequestBody Map<String, String> credentials,
+                                                     HttpServletRequest request) {
         String phone = credentials.get("phone");
         String password = credentials.get("password");
         
         boolean isAuthenticated = adminService.authenticateAdmin(phone, password);
         
         if (isAuthenticated) {
+            // From now on the session, not the X-Tenant-ID header, decides the tenant
+            TenantFilter.signIn(request, TenantContext.getTenantId());
             return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", "Login successful",
-                "role", "admin"
+                "role", "admin",
+                "tenant", TenantContext.getTenantId()
             ));
         } else {
             return ResponseEntity.badRequest().body(Map.of(
@@ -37,6 +47,17 @@ public class AdminController {
         }
     }
 
+    @EndpointClass("auth")
+    @PostMapping("/logout")
+    public ResponseEntity<Map<String, Object>> logout(HttpServletRequest request) {
+        TenantFilter.signOut(request);
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "message", "Logged out"
+        ));
+    }
+
+    @EndpointClass("auth")
     @PostMapping("/change-password")
     public ResponseEntity<Map<String, Object>> changePassword(@RequestBody Map<String, String> request) {
         String phone = request.get("phone");
@@ -58,9 +79,12 @@ public class AdminController {
         }
     }
 
+    // Completes asynchronously: the servlet thread is released while the
+    // aggregates run, so many dashboard viewers do not pin request threads
     @GetMapping("/stats")
-    public ResponseEntity<AdminStatsDTO> getAdminStats() {
-        AdminStatsDTO stats = adminService.getAdminStats();
-        return ResponseEntity.ok(stats);
+    public CompletableFuture<ResponseEntity<AdminStatsDTO>> getAdminStats() {
+        return adminService.getAdminStats()
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(e -> ResponseEntity.internalServerError().build());
     }
 }
\ No newline at end of file
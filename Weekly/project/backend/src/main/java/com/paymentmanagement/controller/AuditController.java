@@ -0,0 +1,43 @@
+package com.paymentmanagement.controller;
+
+import com.paymentmanagement.dto.PaymentAuditPageDTO;
+import com.paymentmanagement.service.PaymentAuditService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/audit")
+@CrossOrigin(origins = "*")
+public class AuditController {
+
+    @Autowired
+    private PaymentAuditService paymentAuditService;
+
+    @GetMapping("/payments/customer/{customerId}")
+    public ResponseEntity<PaymentAuditPageDTO> getCustomerHistory(
+            @PathVariable Long customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            return ResponseEntity.ok(paymentAuditService.getCustomerHistory(customerId, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/payments/day/{date}")
+    public ResponseEntity<PaymentAuditPageDTO> getDayHistory(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            return ResponseEntity.ok(paymentAuditService.getDayHistory(date, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
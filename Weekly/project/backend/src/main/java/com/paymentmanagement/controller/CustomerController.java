@@ -1,9 +1,13 @@
 package com.paymentmanagement.controller;
 
+import com.paymentmanagement.config.EndpointClass;
 import com.paymentmanagement.dto.CustomerDTO;
+import com.paymentmanagement.dto.CustomerSummaryDTO;
 import com.paymentmanagement.service.CustomerService;
+import com.paymentmanagement.service.StaleVersionException;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,6 +23,7 @@ public class CustomerController {
     @Autowired
     private CustomerService customerService;
 
+    @EndpointClass("heavy-read")
     @GetMapping
     public ResponseEntity<List<CustomerDTO>> getAllCustomers() {
         List<CustomerDTO> customers = customerService.getAllCustomers();
@@ -41,12 +46,28 @@ public class CustomerController {
         return ResponseEntity.ok(customers);
     }
 
+    @EndpointClass("heavy-read")
     @GetMapping("/search")
     public ResponseEntity<List<CustomerDTO>> searchCustomers(@RequestParam String query) {
         List<CustomerDTO> customers = customerService.searchCustomers(query);
         return ResponseEntity.ok(customers);
     }
 
+    @EndpointClass("heavy-read")
+    @GetMapping("/summaries")
+    public ResponseEntity<List<CustomerSummaryDTO>> getCustomerSummaries() {
+        List<CustomerSummaryDTO> summaries = customerService.getCustomerSummaries();
+        return ResponseEntity.ok(summaries);
+    }
+
+    @EndpointClass("heavy-read")
+    @GetMapping("/summaries/search")
+    public ResponseEntity<List<CustomerSummaryDTO>> searchCustomerSummaries(@RequestParam String query) {
+        List<CustomerSummaryDTO> summaries = customerService.searchCustomerSummaries(query);
+        return ResponseEntity.ok(summaries);
+    }
+
+    @EndpointClass("critical-write")
     @PostMapping
     public ResponseEntity<CustomerDTO> createCustomer(@Valid @RequestBody CustomerDTO customerDTO) {
         try {
@@ -57,21 +78,27 @@ public class CustomerController {
         }
     }
 
+    @EndpointClass("critical-write")
     @PutMapping("/{id}")
     public ResponseEntity<CustomerDTO> updateCustomer(@PathVariable Long id, @Valid @RequestBody CustomerDTO customerDTO) {
         try {
             CustomerDTO updatedCustomer = customerService.updateCustomer(id, customerDTO);
             return ResponseEntity.ok(updatedCustomer);
+        } catch (OptimisticLockingFailureException | StaleVersionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
+    @EndpointClass("critical-write")
     @DeleteMapping("/{id}")
     public ResponseEntity<Map<String, String>> deleteCustomer(@PathVariable Long id) {
         try {
             customerService.deleteCustomer(id);
             return ResponseEntity.ok(Map.of("message", "Customer deleted successfully"));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -0,0 +1,120 @@
+package com.paymentmanagement.controller;
+
+import com.paymentmanagement.config.EndpointClass;
+import com.paymentmanagement.config.TenantContext;
+import com.paymentmanagement.entity.Payment;
+import com.paymentmanagement.service.ExportService;
+import com.paymentmanagement.util.CsvWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+@EndpointClass("export")
+@RestController
+@RequestMapping("/api/export")
+@CrossOrigin(origins = "*")
+public class ExportController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private ExportService exportService;
+
+    // Large exports stream for longer than the global async timeout allows other requests
+    @Value("${app.export.async-timeout:PT30M}")
+    private Duration asyncTimeout;
+
+    @GetMapping("/customers")
+    public ResponseEntity<StreamingResponseBody> exportCustomers(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request) {
+        String tenantId = TenantContext.getTenantId();
+        return csv("customers", acceptEncoding, request, csv -> exportService.exportCustomers(tenantId, csv));
+    }
+
+    @GetMapping("/payments")
+    public ResponseEntity<StreamingResponseBody> exportPaymentLedger(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request) {
+        String tenantId = TenantContext.getTenantId();
+        return csv("payments", acceptEncoding, request, csv -> exportService.exportPaymentLedger(tenantId, csv));
+    }
+
+    @GetMapping("/reports")
+    public ResponseEntity<StreamingResponseBody> exportPaymentReport(
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) Payment.PaymentStatus status,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request) {
+        LocalDate start = startDate != null ? LocalDate.parse(startDate) : null;
+        LocalDate end = endDate != null ? LocalDate.parse(endDate) : null;
+        String tenantId = TenantContext.getTenantId();
+        return csv("payment-report", acceptEncoding, request,
+                csv -> exportService.exportPaymentReport(tenantId, start, end, status, csv));
+    }
+
+    // Rows are written from the database cursor to the response on an async
+    // thread, so the container thread is released while the export runs
+    private ResponseEntity<StreamingResponseBody> csv(String name, String acceptEncoding, HttpServletRequest request,
+                                                      Consumer<CsvWriter> export) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : outputStream;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+            export.accept(new CsvWriter(writer));
+            writer.flush();
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+            outputStream.flush();
+        };
+        extendAsyncTimeout(request);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "-" + LocalDate.now() + ".csv")
+                        .build().toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    // Applied just before the streaming body is handed to the async thread,
+    // and only to this request
+    private void extendAsyncTimeout(HttpServletRequest request) {
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(ExportController.class.getName(),
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest webRequest, Callable<T> task) {
+                        ((AsyncWebRequest) webRequest).setTimeout(asyncTimeout.toMillis());
+                    }
+                });
+    }
+}
@@ -1,9 +1,13 @@
 package com.paymentmanagement.controller;
 
+import com.paymentmanagement.config.EndpointClass;
 import com.paymentmanagement.dto.PaymentDTO;
 import com.paymentmanagement.entity.Payment;
 import com.paymentmanagement.service.PaymentService;
+import com.paymentmanagement.service.StaleVersionException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,18 +28,23 @@ public class PaymentController {
         return ResponseEntity.ok(payments);
     }
 
+    @EndpointClass("critical-write")
     @PutMapping("/{paymentId}/status")
     public ResponseEntity<PaymentDTO> updatePaymentStatus(
             @PathVariable Long paymentId, 
-            @RequestParam Payment.PaymentStatus status) {
+            @RequestParam Payment.PaymentStatus status,
+            @RequestParam(required = false) Long version) {
         try {
-            PaymentDTO updatedPayment = paymentService.updatePaymentStatus(paymentId, status);
+            PaymentDTO updatedPayment = paymentService.updatePaymentStatus(paymentId, status, version);
             return ResponseEntity.ok(updatedPayment);
+        } catch (OptimisticLockingFailureException | StaleVersionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
+    @EndpointClass("critical-write")
     @DeleteMapping("/{paymentId}")
     public ResponseEntity<Map<String, String>> deletePayment(@PathVariable Long paymentId) {
         try {
@@ -46,6 +55,7 @@ public class PaymentController {
         }
     }
 
+    @EndpointClass("heavy-read")
     @GetMapping("/reports")
     public ResponseEntity<List<PaymentDTO>> getPaymentReports(
             @RequestParam(required = false) String startDate,
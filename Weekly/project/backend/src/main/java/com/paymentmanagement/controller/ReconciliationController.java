@@ -0,0 +1,58 @@
+package com.paymentmanagement.controller;
+
+import com.paymentmanagement.dto.ReconciliationFindingDTO;
+import com.paymentmanagement.dto.ReconciliationRunDTO;
+import com.paymentmanagement.entity.ReconciliationFinding;
+import com.paymentmanagement.service.ReconciliationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/reconciliation")
+@CrossOrigin(origins = "*")
+public class ReconciliationController {
+
+    @Autowired
+    private ReconciliationService reconciliationService;
+
+    @PostMapping("/runs")
+    public ResponseEntity<?> startRun(@RequestParam(defaultValue = "false") boolean autoRepair) {
+        try {
+            return ResponseEntity.accepted().body(reconciliationService.startRun(autoRepair));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/runs")
+    public ResponseEntity<List<ReconciliationRunDTO>> getRecentRuns() {
+        return ResponseEntity.ok(reconciliationService.getRecentRuns());
+    }
+
+    @GetMapping("/runs/{id}")
+    public ResponseEntity<ReconciliationRunDTO> getRun(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(reconciliationService.getRun(id));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/runs/{id}/findings")
+    public ResponseEntity<List<ReconciliationFindingDTO>> getFindings(
+            @PathVariable Long id,
+            @RequestParam(required = false) ReconciliationFinding.FindingType type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        try {
+            return ResponseEntity.ok(reconciliationService.getFindings(id, type, page, size));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
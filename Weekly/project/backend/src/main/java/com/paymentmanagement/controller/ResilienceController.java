@@ -0,0 +1,23 @@
+package com.paymentmanagement.controller;
+
+import com.paymentmanagement.dto.EndpointClassMetricsDTO;
+import com.paymentmanagement.service.ResilienceService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/resilience")
+@CrossOrigin(origins = "*")
+public class ResilienceController {
+
+    @Autowired
+    private ResilienceService resilienceService;
+
+    @GetMapping("/metrics")
+    public ResponseEntity<List<EndpointClassMetricsDTO>> getMetrics() {
+        return ResponseEntity.ok(resilienceService.getMetrics());
+    }
+}
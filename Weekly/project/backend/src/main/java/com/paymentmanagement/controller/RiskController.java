@@ -0,0 +1,32 @@
+package com.paymentmanagement.controller;
+
+import com.paymentmanagement.config.TenantContext;
+import com.paymentmanagement.dto.CustomerRiskDTO;
+import com.paymentmanagement.service.RiskScoringService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/risk")
+@CrossOrigin(origins = "*")
+public class RiskController {
+
+    @Autowired
+    private RiskScoringService riskScoringService;
+
+    @GetMapping("/top")
+    public ResponseEntity<List<CustomerRiskDTO>> getTopAtRisk(@RequestParam(defaultValue = "20") int limit) {
+        List<CustomerRiskDTO> customers = riskScoringService.getTopAtRisk(limit);
+        return ResponseEntity.ok(customers);
+    }
+
+    @PostMapping("/recompute")
+    public ResponseEntity<Map<String, String>> recompute() {
+        riskScoringService.recomputeTenantAsync(TenantContext.getTenantId());
+        return ResponseEntity.accepted().body(Map.of("message", "Risk score recompute started"));
+    }
+}
@@ -25,6 +25,7 @@ public class CustomerDTO {
     private String dayOfAmountTaken;
     private Double weeklyAmount;
     private List<PaymentDTO> payments;
+    private Long version;
 
     // Constructors
     public CustomerDTO() {}
@@ -60,4 +61,7 @@ public class CustomerDTO {
 
     public List<PaymentDTO> getPayments() { return payments; }
     public void setPayments(List<PaymentDTO> payments) { this.payments = payments; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.paymentmanagement.dto;
+
+import java.time.Instant;
+
+public class CustomerRiskDTO {
+    private Long customerId;
+    private String name;
+    private String phone;
+    private Double score;
+    private Double missRate;
+    private Integer consecutiveMisses;
+    private Double avgDaysLate;
+    private Double exposure;
+    private Instant computedAt;
+
+    // Constructors
+    public CustomerRiskDTO() {}
+
+    public CustomerRiskDTO(Long customerId, String name, String phone, Double score, Double missRate,
+                           Integer consecutiveMisses, Double avgDaysLate, Double exposure, Instant computedAt) {
+        this.customerId = customerId;
+        this.name = name;
+        this.phone = phone;
+        this.score = score;
+        this.missRate = missRate;
+        this.consecutiveMisses = consecutiveMisses;
+        this.avgDaysLate = avgDaysLate;
+        this.exposure = exposure;
+        this.computedAt = computedAt;
+    }
+
+    // Getters and Setters
+    public Long getCustomerId() { return customerId; }
+    public void setCustomerId(Long customerId) { this.customerId = customerId; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) { this.phone = phone; }
+
+    public Double getScore() { return score; }
+    public void setScore(Double score) { this.score = score; }
+
+    public Double getMissRate() { return missRate; }
+    public void setMissRate(Double missRate) { this.missRate = missRate; }
+
+    public Integer getConsecutiveMisses() { return consecutiveMisses; }
+    public void setConsecutiveMisses(Integer consecutiveMisses) { this.consecutiveMisses = consecutiveMisses; }
+
+    public Double getAvgDaysLate() { return avgDaysLate; }
+    public void setAvgDaysLate(Double avgDaysLate) { this.avgDaysLate = avgDaysLate; }
+
+    public Double getExposure() { return exposure; }
+    public void setExposure(Double exposure) { this.exposure = exposure; }
+
+    public Instant getComputedAt() { return computedAt; }
+    public void setComputedAt(Instant computedAt) { this.computedAt = computedAt; }
+}
@@ -0,0 +1,75 @@
+package com.paymentmanagement.dto;
+
+import java.time.LocalDate;
+
+public class CustomerSummaryDTO {
+    private Long id;
+    private String name;
+    private String phone;
+    private Double totalAmount;
+    private LocalDate dateOfAmountTaken;
+    private Double weeklyAmount;
+    private Long totalPayments;
+    private Long paidCount;
+    private Long missedCount;
+    private Double outstandingAmount;
+    private LocalDate nextDueDate;
+    private LocalDate lastPaidDate;
+
+    // Constructors
+    public CustomerSummaryDTO() {}
+
+    public CustomerSummaryDTO(Long id, String name, String phone, Double totalAmount, LocalDate dateOfAmountTaken,
+                              Double weeklyAmount, Long totalPayments, Long paidCount, Long missedCount,
+                              Double outstandingAmount, LocalDate nextDueDate, LocalDate lastPaidDate) {
+        this.id = id;
+        this.name = name;
+        this.phone = phone;
+        this.totalAmount = totalAmount;
+        this.dateOfAmountTaken = dateOfAmountTaken;
+        this.weeklyAmount = weeklyAmount;
+        this.totalPayments = totalPayments;
+        this.paidCount = paidCount != null ? paidCount : 0L;
+        this.missedCount = missedCount != null ? missedCount : 0L;
+        this.outstandingAmount = outstandingAmount != null ? outstandingAmount : 0.0;
+        this.nextDueDate = nextDueDate;
+        this.lastPaidDate = lastPaidDate;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) { this.phone = phone; }
+
+    public Double getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(Double totalAmount) { this.totalAmount = totalAmount; }
+
+    public LocalDate getDateOfAmountTaken() { return dateOfAmountTaken; }
+    public void setDateOfAmountTaken(LocalDate dateOfAmountTaken) { this.dateOfAmountTaken = dateOfAmountTaken; }
+
+    public Double getWeeklyAmount() { return weeklyAmount; }
+    public void setWeeklyAmount(Double weeklyAmount) { this.weeklyAmount = weeklyAmount; }
+
+    public Long getTotalPayments() { return totalPayments; }
+    public void setTotalPayments(Long totalPayments) { this.totalPayments = totalPayments; }
+
+    public Long getPaidCount() { return paidCount; }
+    public void setPaidCount(Long paidCount) { this.paidCount = paidCount; }
+
+    public Long getMissedCount() { return missedCount; }
+    public void setMissedCount(Long missedCount) { this.missedCount = missedCount; }
+
+    public Double getOutstandingAmount() { return outstandingAmount; }
+    public void setOutstandingAmount(Double outstandingAmount) { this.outstandingAmount = outstandingAmount; }
+
+    public LocalDate getNextDueDate() { return nextDueDate; }
+    public void setNextDueDate(LocalDate nextDueDate) { this.nextDueDate = nextDueDate; }
+
+    public LocalDate getLastPaidDate() { return lastPaidDate; }
+    public void setLastPaidDate(LocalDate lastPaidDate) { this.lastPaidDate = lastPaidDate; }
+}
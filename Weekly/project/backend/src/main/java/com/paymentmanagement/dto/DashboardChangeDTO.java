@@ -0,0 +1,44 @@
+package com.paymentmanagement.dto;
+
+import com.paymentmanagement.entity.Payment;
+
+public class DashboardChangeDTO {
+    private String entity;
+    private Long id;
+    private Long customerId;
+    private String change;
+    private Payment.PaymentStatus status;
+    private Double amount;
+
+    // Constructors
+    public DashboardChangeDTO() {}
+
+    public DashboardChangeDTO(String entity, Long id, Long customerId, String change,
+                              Payment.PaymentStatus status, Double amount) {
+        this.entity = entity;
+        this.id = id;
+        this.customerId = customerId;
+        this.change = change;
+        this.status = status;
+        this.amount = amount;
+    }
+
+    // Getters and Setters
+    public String getEntity() { return entity; }
+    public void setEntity(String entity) { this.entity = entity; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getCustomerId() { return customerId; }
+    public void setCustomerId(Long customerId) { this.customerId = customerId; }
+
+    public String getChange() { return change; }
+    public void setChange(String change) { this.change = change; }
+
+    public Payment.PaymentStatus getStatus() { return status; }
+    public void setStatus(Payment.PaymentStatus status) { this.status = status; }
+
+    public Double getAmount() { return amount; }
+    public void setAmount(Double amount) { this.amount = amount; }
+}
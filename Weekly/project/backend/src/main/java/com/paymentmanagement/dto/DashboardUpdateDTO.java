@@ -0,0 +1,28 @@
+package com.paymentmanagement.dto;
+
+import java.util.List;
+
+public class DashboardUpdateDTO {
+    private List<DashboardChangeDTO> changes;
+    private boolean resync;
+    private AdminStatsDTO stats;
+
+    // Constructors
+    public DashboardUpdateDTO() {}
+
+    public DashboardUpdateDTO(List<DashboardChangeDTO> changes, boolean resync, AdminStatsDTO stats) {
+        this.changes = changes;
+        this.resync = resync;
+        this.stats = stats;
+    }
+
+    // Getters and Setters
+    public List<DashboardChangeDTO> getChanges() { return changes; }
+    public void setChanges(List<DashboardChangeDTO> changes) { this.changes = changes; }
+
+    public boolean isResync() { return resync; }
+    public void setResync(boolean resync) { this.resync = resync; }
+
+    public AdminStatsDTO getStats() { return stats; }
+    public void setStats(AdminStatsDTO stats) { this.stats = stats; }
+}
@@ -0,0 +1,62 @@
+package com.paymentmanagement.dto;
+
+import java.util.List;
+
+public class EndpointClassMetricsDTO {
+    private String name;
+    private List<String> endpoints;
+    private Integer maxConcurrent;
+    private Integer active;
+    private Double ratePerSecond;
+    private Long timeoutMs;
+    private Long accepted;
+    private Long rateLimited;
+    private Long bulkheadRejected;
+    private Long timedOut;
+    private Double p50Ms;
+    private Double p95Ms;
+    private Double p99Ms;
+
+    // Constructors
+    public EndpointClassMetricsDTO() {}
+
+    // Getters and Setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public List<String> getEndpoints() { return endpoints; }
+    public void setEndpoints(List<String> endpoints) { this.endpoints = endpoints; }
+
+    public Integer getMaxConcurrent() { return maxConcurrent; }
+    public void setMaxConcurrent(Integer maxConcurrent) { this.maxConcurrent = maxConcurrent; }
+
+    public Integer getActive() { return active; }
+    public void setActive(Integer active) { this.active = active; }
+
+    public Double getRatePerSecond() { return ratePerSecond; }
+    public void setRatePerSecond(Double ratePerSecond) { this.ratePerSecond = ratePerSecond; }
+
+    public Long getTimeoutMs() { return timeoutMs; }
+    public void setTimeoutMs(Long timeoutMs) { this.timeoutMs = timeoutMs; }
+
+    public Long getAccepted() { return accepted; }
+    public void setAccepted(Long accepted) { this.accepted = accepted; }
+
+    public Long getRateLimited() { return rateLimited; }
+    public void setRateLimited(Long rateLimited) { this.rateLimited = rateLimited; }
+
+    public Long getBulkheadRejected() { return bulkheadRejected; }
+    public void setBulkheadRejected(Long bulkheadRejected) { this.bulkheadRejected = bulkheadRejected; }
+
+    public Long getTimedOut() { return timedOut; }
+    public void setTimedOut(Long timedOut) { this.timedOut = timedOut; }
+
+    public Double getP50Ms() { return p50Ms; }
+    public void setP50Ms(Double p50Ms) { this.p50Ms = p50Ms; }
+
+    public Double getP95Ms() { return p95Ms; }
+    public void setP95Ms(Double p95Ms) { this.p95Ms = p95Ms; }
+
+    public Double getP99Ms() { return p99Ms; }
+    public void setP99Ms(Double p99Ms) { this.p99Ms = p99Ms; }
+}
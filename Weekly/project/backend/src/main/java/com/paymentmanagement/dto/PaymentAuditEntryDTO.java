@@ -0,0 +1,68 @@
+package com.paymentmanagement.dto;
+
+import com.paymentmanagement.entity.Payment;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+public class PaymentAuditEntryDTO {
+    private Long id;
+    private Instant timestamp;
+    private Long paymentId;
+    private Long customerId;
+    private Payment.PaymentStatus oldStatus;
+    private Payment.PaymentStatus newStatus;
+    private LocalDate oldPaidDate;
+    private LocalDate newPaidDate;
+    private Double amount;
+    private String actor;
+
+    // Constructors
+    public PaymentAuditEntryDTO() {}
+
+    public PaymentAuditEntryDTO(Long id, Instant timestamp, Long paymentId, Long customerId,
+                                Payment.PaymentStatus oldStatus, Payment.PaymentStatus newStatus,
+                                LocalDate oldPaidDate, LocalDate newPaidDate, Double amount, String actor) {
+        this.id = id;
+        this.timestamp = timestamp;
+        this.paymentId = paymentId;
+        this.customerId = customerId;
+        this.oldStatus = oldStatus;
+        this.newStatus = newStatus;
+        this.oldPaidDate = oldPaidDate;
+        this.newPaidDate = newPaidDate;
+        this.amount = amount;
+        this.actor = actor;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Instant getTimestamp() { return timestamp; }
+    public void setTimestamp(Instant timestamp) { this.timestamp = timestamp; }
+
+    public Long getPaymentId() { return paymentId; }
+    public void setPaymentId(Long paymentId) { this.paymentId = paymentId; }
+
+    public Long getCustomerId() { return customerId; }
+    public void setCustomerId(Long customerId) { this.customerId = customerId; }
+
+    public Payment.PaymentStatus getOldStatus() { return oldStatus; }
+    public void setOldStatus(Payment.PaymentStatus oldStatus) { this.oldStatus = oldStatus; }
+
+    public Payment.PaymentStatus getNewStatus() { return newStatus; }
+    public void setNewStatus(Payment.PaymentStatus newStatus) { this.newStatus = newStatus; }
+
+    public LocalDate getOldPaidDate() { return oldPaidDate; }
+    public void setOldPaidDate(LocalDate oldPaidDate) { this.oldPaidDate = oldPaidDate; }
+
+    public LocalDate getNewPaidDate() { return newPaidDate; }
+    public void setNewPaidDate(LocalDate newPaidDate) { this.newPaidDate = newPaidDate; }
+
+    public Double getAmount() { return amount; }
+    public void setAmount(Double amount) { this.amount = amount; }
+
+    public String getActor() { return actor; }
+    public void setActor(String actor) { this.actor = actor; }
+}
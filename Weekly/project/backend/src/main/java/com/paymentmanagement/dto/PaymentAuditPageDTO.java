@@ -0,0 +1,23 @@
+package com.paymentmanagement.dto;
+
+import java.util.List;
+
+public class PaymentAuditPageDTO {
+    private List<PaymentAuditEntryDTO> entries;
+    private String nextCursor;
+
+    // Constructors
+    public PaymentAuditPageDTO() {}
+
+    public PaymentAuditPageDTO(List<PaymentAuditEntryDTO> entries, String nextCursor) {
+        this.entries = entries;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<PaymentAuditEntryDTO> getEntries() { return entries; }
+    public void setEntries(List<PaymentAuditEntryDTO> entries) { this.entries = entries; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
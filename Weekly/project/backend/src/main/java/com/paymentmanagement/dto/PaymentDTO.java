@@ -19,6 +19,7 @@ public class PaymentDTO {
     private Integer weekNumber;
     private LocalDate paidDate;
     private Long customerId;
+    private Long version;
 
     // Constructors
     public PaymentDTO() {}
@@ -51,4 +52,7 @@ public class PaymentDTO {
 
     public Long getCustomerId() { return customerId; }
     public void setCustomerId(Long customerId) { this.customerId = customerId; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.paymentmanagement.dto;
+
+import com.paymentmanagement.entity.ReconciliationFinding;
+
+public class ReconciliationFindingDTO {
+    private Long customerId;
+    private ReconciliationFinding.FindingType type;
+    private String expectedValue;
+    private String actualValue;
+    private Boolean repaired;
+
+    // Constructors
+    public ReconciliationFindingDTO() {}
+
+    public ReconciliationFindingDTO(Long customerId, ReconciliationFinding.FindingType type, String expectedValue,
+                                    String actualValue, Boolean repaired) {
+        this.customerId = customerId;
+        this.type = type;
+        this.expectedValue = expectedValue;
+        this.actualValue = actualValue;
+        this.repaired = repaired;
+    }
+
+    // Getters and Setters
+    public Long getCustomerId() { return customerId; }
+    public void setCustomerId(Long customerId) { this.customerId = customerId; }
+
+    public ReconciliationFinding.FindingType getType() { return type; }
+    public void setType(ReconciliationFinding.FindingType type) { this.type = type; }
+
+    public String getExpectedValue() { return expectedValue; }
+    public void setExpectedValue(String expectedValue) { this.expectedValue = expectedValue; }
+
+    public String getActualValue() { return actualValue; }
+    public void setActualValue(String actualValue) { this.actualValue = actualValue; }
+
+    public Boolean getRepaired() { return repaired; }
+    public void setRepaired(Boolean repaired) { this.repaired = repaired; }
+}
@@ -0,0 +1,57 @@
+package com.paymentmanagement.dto;
+
+import com.paymentmanagement.entity.ReconciliationRun;
+
+import java.time.Instant;
+import java.util.Map;
+
+public class ReconciliationRunDTO {
+    private Long id;
+    private ReconciliationRun.RunStatus status;
+    private Boolean autoRepair;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private Long customersScanned;
+    private Long findingsCount;
+    private Long repairedCount;
+    private String errorMessage;
+    private Map<String, Long> findingsByType;
+    private Map<String, Long> repairedByType;
+
+    // Constructors
+    public ReconciliationRunDTO() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public ReconciliationRun.RunStatus getStatus() { return status; }
+    public void setStatus(ReconciliationRun.RunStatus status) { this.status = status; }
+
+    public Boolean getAutoRepair() { return autoRepair; }
+    public void setAutoRepair(Boolean autoRepair) { this.autoRepair = autoRepair; }
+
+    public Instant getStartedAt() { return startedAt; }
+    public void setStartedAt(Instant startedAt) { this.startedAt = startedAt; }
+
+    public Instant getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(Instant finishedAt) { this.finishedAt = finishedAt; }
+
+    public Long getCustomersScanned() { return customersScanned; }
+    public void setCustomersScanned(Long customersScanned) { this.customersScanned = customersScanned; }
+
+    public Long getFindingsCount() { return findingsCount; }
+    public void setFindingsCount(Long findingsCount) { this.findingsCount = findingsCount; }
+
+    public Long getRepairedCount() { return repairedCount; }
+    public void setRepairedCount(Long repairedCount) { this.repairedCount = repairedCount; }
+
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+
+    public Map<String, Long> getFindingsByType() { return findingsByType; }
+    public void setFindingsByType(Map<String, Long> findingsByType) { this.findingsByType = findingsByType; }
+
+    public Map<String, Long> getRepairedByType() { return repairedByType; }
+    public void setRepairedByType(Map<String, Long> repairedByType) { this.repairedByType = repairedByType; }
+}
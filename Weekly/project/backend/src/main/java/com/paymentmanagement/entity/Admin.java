@@ -2,22 +2,31 @@ package com.paymentmanagement.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
 
 @Entity
-@Table(name = "admins")
+@Table(name = "admins", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_admins_tenant_phone", columnNames = {"tenant_id", "phone"})
+})
 public class Admin {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @NotBlank(message = "Phone number is required")
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String phone;
 
     @NotBlank(message = "Password is required")
     @Column(nullable = false)
     private String password;
 
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", nullable = false, length = 32, updatable = false)
+    private String tenantId;
+
     // Constructors
     public Admin() {}
 
@@ -35,4 +44,7 @@ public class Admin {
 
     public String getPassword() { return password; }
     public void setPassword(String password) { this.password = password; }
+
+    public String getTenantId() { return tenantId; }
+    public void setTenantId(String tenantId) { this.tenantId = tenantId; }
 }
\ No newline at end of file
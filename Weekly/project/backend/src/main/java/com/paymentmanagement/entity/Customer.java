@@ -4,14 +4,25 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.TenantId;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 
 @Entity
-@Table(name = "customers")
+@Table(name = "customers", indexes = {
+    @Index(name = "idx_customers_tenant_phone", columnList = "tenant_id, phone"),
+    @Index(name = "idx_customers_deleted_at", columnList = "deleted_at")
+})
+@SQLRestriction("deleted_at IS NULL")
 public class Customer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Ids are taken from the sequence 50 at a time, so inserts can be JDBC-batched;
+    // allocationSize must equal the sequence's INCREMENT BY
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customers_id_seq")
+    @SequenceGenerator(name = "customers_id_seq", sequenceName = "customers_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Name is required")
@@ -40,6 +51,20 @@ public class Customer {
     @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Payment> payments;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // Set on soft delete; CustomerPurgeService removes the row after the retention period
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", nullable = false, length = 32, updatable = false)
+    private String tenantId;
+
     // Constructors
     public Customer() {}
 
@@ -82,4 +107,13 @@ public class Customer {
 
     public List<Payment> getPayments() { return payments; }
     public void setPayments(List<Payment> payments) { this.payments = payments; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public Instant getDeletedAt() { return deletedAt; }
+    public void setDeletedAt(Instant deletedAt) { this.deletedAt = deletedAt; }
+
+    public String getTenantId() { return tenantId; }
+    public void setTenantId(String tenantId) { this.tenantId = tenantId; }
 }
\ No newline at end of file
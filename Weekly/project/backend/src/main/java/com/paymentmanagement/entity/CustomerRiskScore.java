@@ -0,0 +1,71 @@
+package com.paymentmanagement.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
+import java.time.Instant;
+
+/**
+ * Default-risk score per customer, kept in its own table so recomputing it
+ * never bumps the customer's version or contends with customer edits.
+ */
+@Entity
+@Table(name = "customer_risk_scores", indexes = {
+    @Index(name = "idx_customer_risk_scores_tenant_score", columnList = "tenant_id, score DESC")
+})
+public class CustomerRiskScore {
+    @Id
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @Column(nullable = false)
+    private Double score;
+
+    @Column(nullable = false)
+    private Double missRate;
+
+    @Column(nullable = false)
+    private Integer consecutiveMisses;
+
+    @Column(nullable = false)
+    private Double avgDaysLate;
+
+    @Column(nullable = false)
+    private Double exposure;
+
+    @Column(nullable = false)
+    private Instant computedAt;
+
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", nullable = false, length = 32, updatable = false)
+    private String tenantId;
+
+    // Constructors
+    public CustomerRiskScore() {}
+
+    // Getters and Setters
+    public Long getCustomerId() { return customerId; }
+    public void setCustomerId(Long customerId) { this.customerId = customerId; }
+
+    public Double getScore() { return score; }
+    public void setScore(Double score) { this.score = score; }
+
+    public Double getMissRate() { return missRate; }
+    public void setMissRate(Double missRate) { this.missRate = missRate; }
+
+    public Integer getConsecutiveMisses() { return consecutiveMisses; }
+    public void setConsecutiveMisses(Integer consecutiveMisses) { this.consecutiveMisses = consecutiveMisses; }
+
+    public Double getAvgDaysLate() { return avgDaysLate; }
+    public void setAvgDaysLate(Double avgDaysLate) { this.avgDaysLate = avgDaysLate; }
+
+    public Double getExposure() { return exposure; }
+    public void setExposure(Double exposure) { this.exposure = exposure; }
+
+    public Instant getComputedAt() { return computedAt; }
+    public void setComputedAt(Instant computedAt) { this.computedAt = computedAt; }
+
+    public String getTenantId() { return tenantId; }
+    public void setTenantId(String tenantId) { this.tenantId = tenantId; }
+}
@@ -3,13 +3,24 @@ package com.paymentmanagement.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.TenantId;
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+    @Index(name = "idx_payments_customer_week", columnList = "customer_id, week_number"),
+    @Index(name = "idx_payments_tenant_status_date", columnList = "tenant_id, status, payment_date")
+})
+@SQLRestriction("deleted_at IS NULL")
 public class Payment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Ids are taken from the sequence 50 at a time, so inserts can be JDBC-batched;
+    // allocationSize must equal the sequence's INCREMENT BY
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_id_seq")
+    @SequenceGenerator(name = "payments_id_seq", sequenceName = "payments_id_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Payment date is required")
@@ -35,6 +46,21 @@ public class Payment {
     @JoinColumn(name = "customer_id", nullable = false)
     private Customer customer;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // Copied from the customer on soft delete so payment queries filter without a join
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
+    // Denormalised from the customer so tenant-wide aggregates can use an index
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", nullable = false, length = 32, updatable = false)
+    private String tenantId;
+
     // Constructors
     public Payment() {}
 
@@ -75,6 +101,15 @@ public class Payment {
     public Customer getCustomer() { return customer; }
     public void setCustomer(Customer customer) { this.customer = customer; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public Instant getDeletedAt() { return deletedAt; }
+    public void setDeletedAt(Instant deletedAt) { this.deletedAt = deletedAt; }
+
+    public String getTenantId() { return tenantId; }
+    public void setTenantId(String tenantId) { this.tenantId = tenantId; }
+
     public enum PaymentStatus {
         PAID, DUE, MISSED
     }
@@ -0,0 +1,90 @@
+package com.paymentmanagement.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
+
+/**
+ * One inconsistency found by a reconciliation run. Written in bulk by
+ * ReconciliationService through JDBC; mapped here for reading and schema.
+ */
+@Entity
+@Table(name = "reconciliation_findings", indexes = {
+    @Index(name = "idx_reconciliation_findings_run_customer", columnList = "run_id, customer_id")
+})
+public class ReconciliationFinding {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private FindingType type;
+
+    @Column(length = 64)
+    private String expectedValue;
+
+    @Column(length = 64)
+    private String actualValue;
+
+    @Column(nullable = false)
+    private Boolean repaired;
+
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", nullable = false, length = 32, updatable = false)
+    private String tenantId;
+
+    // Constructors
+    public ReconciliationFinding() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getRunId() { return runId; }
+    public void setRunId(Long runId) { this.runId = runId; }
+
+    public Long getCustomerId() { return customerId; }
+    public void setCustomerId(Long customerId) { this.customerId = customerId; }
+
+    public FindingType getType() { return type; }
+    public void setType(FindingType type) { this.type = type; }
+
+    public String getExpectedValue() { return expectedValue; }
+    public void setExpectedValue(String expectedValue) { this.expectedValue = expectedValue; }
+
+    public String getActualValue() { return actualValue; }
+    public void setActualValue(String actualValue) { this.actualValue = actualValue; }
+
+    public Boolean getRepaired() { return repaired; }
+    public void setRepaired(Boolean repaired) { this.repaired = repaired; }
+
+    public String getTenantId() { return tenantId; }
+    public void setTenantId(String tenantId) { this.tenantId = tenantId; }
+
+    public enum FindingType {
+        // weeklyAmount differs from ceil(totalAmount / 10)
+        WEEKLY_AMOUNT_MISMATCH,
+        // Sum of the schedule differs from 10 x the expected weekly amount
+        SCHEDULE_TOTAL_MISMATCH,
+        // Unpaid installments whose amount differs from the expected weekly amount
+        UNPAID_AMOUNT_MISMATCH,
+        // Paid installments whose amount differs; reported only, collected money is not rewritten
+        PAID_AMOUNT_MISMATCH,
+        // Unpaid installments not due dateOfAmountTaken + week x 7 days
+        UNPAID_DATE_MISMATCH,
+        // Weeks 1-10 not all present
+        MISSING_WEEKS,
+        // More installments than distinct week numbers; reported only
+        DUPLICATE_WEEKS,
+        PAID_WITHOUT_PAID_DATE,
+        PAID_DATE_ON_UNPAID
+    }
+}
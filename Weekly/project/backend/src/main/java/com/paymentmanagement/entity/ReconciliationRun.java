@@ -0,0 +1,89 @@
+package com.paymentmanagement.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
+import java.time.Instant;
+
+@Entity
+@Table(name = "reconciliation_runs", indexes = {
+    @Index(name = "idx_reconciliation_runs_tenant_started", columnList = "tenant_id, started_at")
+})
+public class ReconciliationRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private RunStatus status;
+
+    @Column(nullable = false)
+    private Boolean autoRepair;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    @Column(nullable = false)
+    private Long customersScanned = 0L;
+
+    @Column(nullable = false)
+    private Long findingsCount = 0L;
+
+    @Column(nullable = false)
+    private Long repairedCount = 0L;
+
+    @Column(length = 500)
+    private String errorMessage;
+
+    @TenantId
+    @ColumnDefault("'default'")
+    @Column(name = "tenant_id", nullable = false, length = 32, updatable = false)
+    private String tenantId;
+
+    // Constructors
+    public ReconciliationRun() {}
+
+    public ReconciliationRun(Boolean autoRepair) {
+        this.status = RunStatus.RUNNING;
+        this.autoRepair = autoRepair;
+        this.startedAt = Instant.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public RunStatus getStatus() { return status; }
+    public void setStatus(RunStatus status) { this.status = status; }
+
+    public Boolean getAutoRepair() { return autoRepair; }
+    public void setAutoRepair(Boolean autoRepair) { this.autoRepair = autoRepair; }
+
+    public Instant getStartedAt() { return startedAt; }
+    public void setStartedAt(Instant startedAt) { this.startedAt = startedAt; }
+
+    public Instant getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(Instant finishedAt) { this.finishedAt = finishedAt; }
+
+    public Long getCustomersScanned() { return customersScanned; }
+    public void setCustomersScanned(Long customersScanned) { this.customersScanned = customersScanned; }
+
+    public Long getFindingsCount() { return findingsCount; }
+    public void setFindingsCount(Long findingsCount) { this.findingsCount = findingsCount; }
+
+    public Long getRepairedCount() { return repairedCount; }
+    public void setRepairedCount(Long repairedCount) { this.repairedCount = repairedCount; }
+
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+
+    public String getTenantId() { return tenantId; }
+    public void setTenantId(String tenantId) { this.tenantId = tenantId; }
+
+    public enum RunStatus {
+        RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,25 @@
+package com.paymentmanagement.event;
+
+/**
+ * Published by CustomerService when a customer (and with it the payment
+ * schedule) is created, updated or deleted.
+ */
+public class CustomerChangedEvent {
+    private final String tenantId;
+    private final Long customerId;
+    private final ChangeType changeType;
+
+    public CustomerChangedEvent(String tenantId, Long customerId, ChangeType changeType) {
+        this.tenantId = tenantId;
+        this.customerId = customerId;
+        this.changeType = changeType;
+    }
+
+    public String getTenantId() { return tenantId; }
+    public Long getCustomerId() { return customerId; }
+    public ChangeType getChangeType() { return changeType; }
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+}
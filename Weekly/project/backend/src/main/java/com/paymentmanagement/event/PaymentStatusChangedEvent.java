@@ -0,0 +1,49 @@
+package com.paymentmanagement.event;
+
+import com.paymentmanagement.entity.Payment;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Published by PaymentService when an installment changes status. Listeners
+ * that need committed data use @TransactionalEventListener.
+ */
+public class PaymentStatusChangedEvent {
+    private final String tenantId;
+    private final Long paymentId;
+    private final Long customerId;
+    private final Payment.PaymentStatus oldStatus;
+    private final Payment.PaymentStatus newStatus;
+    private final Double amount;
+    private final LocalDate oldPaidDate;
+    private final LocalDate newPaidDate;
+    private final String actor;
+    private final Instant occurredAt;
+
+    public PaymentStatusChangedEvent(String tenantId, Long paymentId, Long customerId, Payment.PaymentStatus oldStatus,
+                                     Payment.PaymentStatus newStatus, Double amount, LocalDate oldPaidDate,
+                                     LocalDate newPaidDate, String actor, Instant occurredAt) {
+        this.tenantId = tenantId;
+        this.paymentId = paymentId;
+        this.customerId = customerId;
+        this.oldStatus = oldStatus;
+        this.newStatus = newStatus;
+        this.amount = amount;
+        this.oldPaidDate = oldPaidDate;
+        this.newPaidDate = newPaidDate;
+        this.actor = actor;
+        this.occurredAt = occurredAt;
+    }
+
+    public String getTenantId() { return tenantId; }
+    public Long getPaymentId() { return paymentId; }
+    public Long getCustomerId() { return customerId; }
+    public Payment.PaymentStatus getOldStatus() { return oldStatus; }
+    public Payment.PaymentStatus getNewStatus() { return newStatus; }
+    public Double getAmount() { return amount; }
+    public LocalDate getOldPaidDate() { return oldPaidDate; }
+    public LocalDate getNewPaidDate() { return newPaidDate; }
+    public String getActor() { return actor; }
+    public Instant getOccurredAt() { return occurredAt; }
+}
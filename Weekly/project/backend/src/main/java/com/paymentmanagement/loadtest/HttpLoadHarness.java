@@ -0,0 +1,450 @@
+package com.paymentmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Drives the REST endpoints of CustomerController, PaymentController and
+ * AdminController over HTTP against a running backend, with a weighted
+ * scenario mix from concurrent threads, and reports throughput, latency
+ * percentiles, error counts and response sizes per scenario. The report is
+ * also written as CSV so runs of two releases can be compared with
+ * benchmark/compare-load-reports.py. Only active with the "http-load"
+ * profile; see application-http-load.properties.
+ *
+ * Ids, phones and names are sampled from the backend's database at start,
+ * so the harness must point at the same database as the server. It signs in
+ * as the tenant's admin first; the session selects the tenant on the server. Customers
+ * created by write scenarios are soft-deleted again when the run ends.
+ */
+@Component
+@Profile("http-load")
+public class HttpLoadHarness implements CommandLineRunner {
+
+    private static final int SAMPLE_SIZE = 10_000;
+
+    private static final String LOADTEST_NAME = "Loadtest Customer";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Value("${app.loadtest.base-url:http://localhost:8080}")
+    private String baseUrl;
+
+    @Value("${app.loadtest.tenant:default}")
+    private String tenantId;
+
+    @Value("${app.loadtest.threads:16}")
+    private int threads;
+
+    @Value("${app.loadtest.warmup:PT10S}")
+    private Duration warmup;
+
+    @Value("${app.loadtest.duration:PT60S}")
+    private Duration duration;
+
+    @Value("${app.loadtest.request-timeout:PT30S}")
+    private Duration requestTimeout;
+
+    @Value("${app.loadtest.scenarios}")
+    private String[] scenarioWeights;
+
+    @Value("${app.loadtest.admin-phone:7815981315}")
+    private String adminPhone;
+
+    @Value("${app.loadtest.admin-password:Phk@1234}")
+    private String adminPassword;
+
+    @Value("${app.loadtest.report-dir:loadtest-reports}")
+    private Path reportDir;
+
+    @Value("${app.loadtest.label:}")
+    private String label;
+
+    private HttpClient client;
+    // Without cookies: the login scenarios would otherwise replace the shared session mid-run
+    private HttpClient signInClient;
+    private List<Long> customerIds;
+    private List<String> phones;
+    private List<String> searchTerms;
+    private long customerCount;
+    private long paymentCount;
+    private final ConcurrentLinkedDeque<Long> createdCustomers = new ConcurrentLinkedDeque<>();
+    private final Map<String, String> firstErrors = new ConcurrentHashMap<>();
+
+    @Override
+    public void run(String... args) throws Exception {
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .cookieHandler(new CookieManager())
+                .build();
+        signInClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        long signedIn = send(client, "POST", "/api/admin/login", objectMapper.writeValueAsString(
+                Map.of("phone", adminPhone, "password", adminPassword)));
+        if (signedIn < 0) {
+            throw new IllegalStateException("Admin login for tenant " + tenantId + " failed with " + -signedIn);
+        }
+        sampleData();
+
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        Map<String, Scenario> scenarios = new LinkedHashMap<>();
+        for (String entry : scenarioWeights) {
+            String[] parts = entry.trim().split(":");
+            String name = parts[0].trim();
+            scenarios.put(name, scenario(name));
+            weights.put(name, parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1);
+        }
+
+        String runLabel = label.isBlank()
+                ? LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) : label;
+        System.out.printf("HTTP load harness %s: %s, %d threads, %s warmup, %s measured, %d customers, %d payments%n",
+                runLabel, baseUrl, threads, warmup, duration, customerCount, paymentCount);
+
+        runPhase(scenarios, weights, warmup);
+        Map<String, List<long[]>> results = runPhase(scenarios, weights, duration);
+        List<String[]> rows = report(results, weights);
+        Path file = writeReport(runLabel, rows);
+        System.out.println("Report: " + file.toAbsolutePath());
+
+        int cleaned = cleanUp();
+        if (cleaned > 0) {
+            System.out.printf("Deleted %d customers created during the run%n", cleaned);
+        }
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    private void sampleData() {
+        customerCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM customers WHERE tenant_id = ? AND deleted_at IS NULL", Long.class, tenantId);
+        paymentCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM payments WHERE tenant_id = ? AND deleted_at IS NULL", Long.class, tenantId);
+        customerIds = jdbcTemplate.queryForList("SELECT id FROM customers WHERE tenant_id = ? " +
+                "AND deleted_at IS NULL ORDER BY random() LIMIT ?", Long.class, tenantId, SAMPLE_SIZE);
+        phones = jdbcTemplate.queryForList("SELECT phone FROM customers WHERE tenant_id = ? " +
+                "AND deleted_at IS NULL ORDER BY random() LIMIT ?", String.class, tenantId, SAMPLE_SIZE);
+        if (customerIds.isEmpty() || paymentCount == 0) {
+            throw new IllegalStateException("Harness needs customers and payments in the database " +
+                    "(see the loadtest-data profile)");
+        }
+        // Searches by a first name, a full name and a phone prefix, like the UI's search box
+        searchTerms = new ArrayList<>();
+        jdbcTemplate.queryForList("SELECT name FROM customers WHERE tenant_id = ? AND deleted_at IS NULL " +
+                        "ORDER BY random() LIMIT 100", String.class, tenantId)
+                .forEach(name -> {
+                    searchTerms.add(name);
+                    searchTerms.add(name.split(" ")[0]);
+                });
+        phones.stream().limit(100).forEach(phone -> searchTerms.add(phone.substring(0, 6)));
+    }
+
+    private Scenario scenario(String name) {
+        return switch (name) {
+            // CustomerController
+            case "listCustomers" -> () -> get("/api/customers");
+            case "getCustomer" -> () -> get("/api/customers/" + random(customerIds));
+            case "customersByPhone" -> () -> get("/api/customers/phone/" + random(phones));
+            case "searchCustomers" -> () -> get("/api/customers/search?query=" + encode(random(searchTerms)));
+            case "listSummaries" -> () -> get("/api/customers/summaries");
+            case "searchSummaries" -> () -> get("/api/customers/summaries/search?query=" + encode(random(searchTerms)));
+            case "createCustomer" -> this::createCustomer;
+            case "updateCustomer" -> () -> send("PUT", "/api/customers/" + createdCustomer(false), customerJson());
+            case "deleteCustomer" -> () -> send("DELETE", "/api/customers/" + createdCustomer(true), null);
+            // PaymentController
+            case "paymentsByCustomer" -> () -> get("/api/payments/customer/" + random(customerIds));
+            case "updatePaymentStatus" -> () -> send("PUT", "/api/payments/" + createdPayment() + "/status?status="
+                    + (ThreadLocalRandom.current().nextBoolean() ? "PAID" : "DUE"), null);
+            case "deletePayment" -> () -> send("DELETE", "/api/payments/" + createdPayment(), null);
+            case "paymentReports" -> () -> {
+                LocalDate start = LocalDate.now().minusWeeks(ThreadLocalRandom.current().nextInt(1, 20));
+                return get("/api/payments/reports?startDate=" + start + "&endDate=" + start.plusWeeks(1)
+                        + (ThreadLocalRandom.current().nextBoolean() ? "&status=MISSED" : ""));
+            };
+            // AdminController
+            case "login" -> () -> send(signInClient, "POST", "/api/admin/login", objectMapper.writeValueAsString(
+                    Map.of("phone", adminPhone, "password", adminPassword)));
+            case "changePassword" -> () -> send(signInClient, "POST", "/api/admin/change-password",
+                    objectMapper.writeValueAsString(Map.of("phone", adminPhone, "currentPassword", adminPassword,
+                            "newPassword", adminPassword)));
+            case "stats" -> () -> get("/api/admin/stats");
+            default -> throw new IllegalArgumentException("Unknown load test scenario: " + name);
+        };
+    }
+
+    /**
+     * Each thread picks scenarios by weight until the phase ends and records
+     * {scenario index, latency nanos, response bytes, 1 if failed} locally.
+     */
+    private Map<String, List<long[]>> runPhase(Map<String, Scenario> scenarios, Map<String, Integer> weights,
+                                               Duration phase) throws InterruptedException {
+        List<String> names = new ArrayList<>(scenarios.keySet());
+        List<Scenario> actions = new ArrayList<>(scenarios.values());
+        int[] cumulative = new int[names.size()];
+        int totalWeight = 0;
+        for (int i = 0; i < names.size(); i++) {
+            totalWeight += weights.get(names.get(i));
+            cumulative[i] = totalWeight;
+        }
+        int weightSum = totalWeight;
+        long deadline = System.nanoTime() + phase.toNanos();
+        List<List<long[]>> perThread = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            List<long[]> samples = new ArrayList<>();
+            perThread.add(samples);
+            Thread worker = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        int pick = ThreadLocalRandom.current().nextInt(weightSum);
+                        int op = 0;
+                        while (cumulative[op] <= pick) {
+                            op++;
+                        }
+                        long start = System.nanoTime();
+                        long bytes;
+                        try {
+                            bytes = actions.get(op).call();
+                            if (bytes < 0) {
+                                firstErrors.putIfAbsent(names.get(op), "HTTP " + -bytes);
+                            }
+                        } catch (Exception e) {
+                            // Timeouts and connection errors count as failures
+                            bytes = -1;
+                            firstErrors.putIfAbsent(names.get(op), e.toString());
+                        }
+                        samples.add(new long[] {op, System.nanoTime() - start, Math.max(bytes, 0), bytes < 0 ? 1 : 0});
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "loadtest-" + t);
+            worker.start();
+        }
+        done.await();
+
+        Map<String, List<long[]>> byScenario = new LinkedHashMap<>();
+        names.forEach(name -> byScenario.put(name, new ArrayList<>()));
+        perThread.forEach(samples -> samples.forEach(sample -> byScenario.get(names.get((int) sample[0])).add(sample)));
+        return byScenario;
+    }
+
+    private List<String[]> report(Map<String, List<long[]>> results, Map<String, Integer> weights) {
+        double seconds = duration.toMillis() / 1000.0;
+        List<String[]> rows = new ArrayList<>();
+        long total = 0;
+        long totalErrors = 0;
+        System.out.printf("%-20s %6s %8s %7s %9s %9s %9s %9s %9s %9s%n", "scenario", "weight", "count", "errors",
+                "ops/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "avg KB");
+        for (Map.Entry<String, List<long[]>> entry : results.entrySet()) {
+            List<long[]> samples = entry.getValue();
+            long[] latencies = samples.stream().mapToLong(sample -> sample[1]).toArray();
+            Arrays.sort(latencies);
+            long errors = samples.stream().mapToLong(sample -> sample[3]).sum();
+            double avgKb = samples.stream().mapToLong(sample -> sample[2]).average().orElse(0) / 1024.0;
+            total += latencies.length;
+            totalErrors += errors;
+            String[] row = {
+                    entry.getKey(), String.valueOf(weights.get(entry.getKey())), String.valueOf(latencies.length),
+                    String.valueOf(errors), format(latencies.length / seconds), format(percentile(latencies, 50)),
+                    format(percentile(latencies, 95)), format(percentile(latencies, 99)),
+                    format(latencies.length > 0 ? latencies[latencies.length - 1] / 1_000_000.0 : 0), format(avgKb)
+            };
+            rows.add(row);
+            System.out.printf("%-20s %6s %8s %7s %9s %9s %9s %9s %9s %9s%n", (Object[]) row);
+        }
+        System.out.printf("%-20s %6s %8d %7d %9.2f%n", "total", "", total, totalErrors, total / seconds);
+        firstErrors.forEach((scenario, error) -> System.out.printf("First error in %s: %s%n", scenario, error));
+        return rows;
+    }
+
+    private Path writeReport(String runLabel, List<String[]> rows) throws IOException {
+        Files.createDirectories(reportDir);
+        Path file = reportDir.resolve(runLabel + ".csv");
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            out.printf("# label=%s started=%s base-url=%s threads=%d warmup=%s duration=%s customers=%d payments=%d%n",
+                    runLabel, Instant.now(), baseUrl, threads, warmup, duration, customerCount, paymentCount);
+            out.println("scenario,weight,count,errors,ops_per_s,p50_ms,p95_ms,p99_ms,max_ms,avg_kb");
+            rows.forEach(row -> out.println(String.join(",", row)));
+        }
+        return file;
+    }
+
+    private long createCustomer() throws Exception {
+        HttpResponse<InputStream> response = client.send(request("POST", "/api/customers", customerJson()),
+                HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            if (response.statusCode() / 100 != 2) {
+                body.transferTo(OutputStream.nullOutputStream());
+                return -response.statusCode();
+            }
+            byte[] bytes = body.readAllBytes();
+            boolean gzip = response.headers().firstValue("Content-Encoding").filter("gzip"::equals).isPresent();
+            JsonNode created = objectMapper.readTree(gzip
+                    ? new GZIPInputStream(new ByteArrayInputStream(bytes)) : new ByteArrayInputStream(bytes));
+            createdCustomers.add(created.get("id").asLong());
+            return bytes.length;
+        }
+    }
+
+    // Write scenarios only touch customers this run created; the creating
+    // request is not measured when none is available yet
+    private long createdCustomer(boolean remove) throws Exception {
+        Long id = remove ? createdCustomers.pollFirst() : createdCustomers.peekLast();
+        if (id == null) {
+            createCustomer();
+            id = remove ? createdCustomers.pollLast() : createdCustomers.peekLast();
+        }
+        if (id == null) {
+            throw new IllegalStateException("Could not create a customer");
+        }
+        return id;
+    }
+
+    private long createdPayment() throws Exception {
+        long customerId = createdCustomer(false);
+        // Any installment, so concurrent writers do not all queue on the same row
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM payments WHERE customer_id = ? " +
+                "AND deleted_at IS NULL ORDER BY random() LIMIT 1", Long.class, customerId);
+        if (ids.isEmpty()) {
+            // Every installment of this customer is gone; use a fresh one next time
+            createdCustomers.remove(customerId);
+            return createdPayment();
+        }
+        return ids.get(0);
+    }
+
+    private String customerJson() throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, Object> customer = new LinkedHashMap<>();
+        customer.put("name", LOADTEST_NAME + " " + random.nextInt(1_000_000));
+        customer.put("phone", String.valueOf(random.nextLong(6_000_000_000L, 9_999_999_999L)));
+        customer.put("totalAmount", (double) (random.nextInt(1, 11) * 5000));
+        customer.put("dateOfAmountTaken", LocalDate.now().minusDays(random.nextInt(0, 70)).toString());
+        return objectMapper.writeValueAsString(customer);
+    }
+
+    private int cleanUp() {
+        int deleted = 0;
+        for (Long id; (id = createdCustomers.poll()) != null; ) {
+            try {
+                if (send("DELETE", "/api/customers/" + id, null) >= 0) {
+                    deleted++;
+                }
+            } catch (Exception e) {
+                System.out.printf("Could not delete customer %d: %s%n", id, e.getMessage());
+            }
+        }
+        return deleted;
+    }
+
+    private long get(String path) throws Exception {
+        return send("GET", path, null);
+    }
+
+    /**
+     * Sends the request and reads the whole body; returns the number of body
+     * bytes, or the negated status code for a non-2xx response.
+     */
+    private long send(String method, String path, String json) throws Exception {
+        return send(client, method, path, json);
+    }
+
+    private long send(HttpClient httpClient, String method, String path, String json) throws Exception {
+        HttpResponse<InputStream> response = httpClient.send(request(method, path, json),
+                HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            long bytes = body.transferTo(OutputStream.nullOutputStream());
+            return response.statusCode() / 100 == 2 ? bytes : -response.statusCode();
+        }
+    }
+
+    private HttpRequest request(String method, String path, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("X-Tenant-ID", tenantId)
+                .header("X-Actor", "loadtest")
+                .header("Accept", "application/json")
+                // Browsers always ask for gzip, so measure the compressed responses they get
+                .header("Accept-Encoding", "gzip");
+        if (json != null) {
+            builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(json));
+        } else {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return builder.build();
+    }
+
+    private static <T> T random(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static String format(double value) {
+        return String.format("%.2f", value);
+    }
+
+    @FunctionalInterface
+    private interface Scenario {
+        long call() throws Exception;
+    }
+}
@@ -0,0 +1,212 @@
+package com.paymentmanagement.loadtest;
+
+import com.paymentmanagement.entity.Payment;
+import com.paymentmanagement.repository.CustomerRepository;
+import com.paymentmanagement.repository.PaymentRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drives the repository queries from concurrent threads against the configured
+ * database and reports throughput, latency percentiles and connection-pool
+ * waits. Only active with the "pool-harness" profile; see
+ * application-pool-harness.properties.
+ */
+@Component
+@Profile("pool-harness")
+public class RepositoryLoadHarness implements CommandLineRunner {
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Value("${app.harness.threads:16}")
+    private int threads;
+
+    @Value("${app.harness.warmup:PT5S}")
+    private Duration warmup;
+
+    @Value("${app.harness.duration:PT30S}")
+    private Duration duration;
+
+    @Value("${app.harness.operations}")
+    private String[] operationNames;
+
+    private long minCustomerId;
+    private long maxCustomerId;
+    private long minPaymentId;
+    private long maxPaymentId;
+    private List<String> phones;
+
+    @Override
+    public void run(String... args) throws Exception {
+        minCustomerId = jdbcTemplate.queryForObject("SELECT COALESCE(MIN(id), 0) FROM customers", Long.class);
+        maxCustomerId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM customers", Long.class);
+        minPaymentId = jdbcTemplate.queryForObject("SELECT COALESCE(MIN(id), 0) FROM payments", Long.class);
+        maxPaymentId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM payments", Long.class);
+        phones = jdbcTemplate.queryForList("SELECT phone FROM customers ORDER BY random() LIMIT 1000", String.class);
+        if (maxCustomerId == 0 || maxPaymentId == 0) {
+            throw new IllegalStateException("Harness needs customers and payments in the database");
+        }
+
+        Map<String, Runnable> operations = new LinkedHashMap<>();
+        for (String name : operationNames) {
+            operations.put(name.trim(), operation(name.trim()));
+        }
+
+        System.out.printf("Repository load harness: %d threads, %s warmup, %s measured, %d customers, %d payments%n",
+                threads, warmup, duration, maxCustomerId - minCustomerId + 1, maxPaymentId - minPaymentId + 1);
+        System.out.println("Pool: " + describePool());
+
+        runPhase(operations, warmup);
+        Map<String, List<long[]>> results = runPhase(operations, duration);
+        report(results);
+
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    private Runnable operation(String name) {
+        return switch (name) {
+            case "findCustomerById" -> () -> customerRepository.findById(randomCustomerId());
+            case "findPaymentsByCustomerId" -> () -> paymentRepository.findByCustomerId(randomCustomerId());
+            case "findCustomersByPhone" -> () -> customerRepository.findByPhone(
+                    phones.get(ThreadLocalRandom.current().nextInt(phones.size())));
+            case "totalAmountReceived" -> paymentRepository::getTotalAmountReceived;
+            case "missedPaymentsCount" -> paymentRepository::getMissedPaymentsCount;
+            case "amountCollectedThisWeek" -> () -> {
+                LocalDate today = LocalDate.now();
+                LocalDate startOfWeek = today.minusDays(today.getDayOfWeek().getValue() - 1);
+                paymentRepository.getAmountCollectedBetweenDates(startOfWeek, startOfWeek.plusDays(6));
+            };
+            case "togglePaymentStatus" -> () -> transactionTemplate.executeWithoutResult(status ->
+                    paymentRepository.findById(randomPaymentId()).ifPresent(payment -> payment.setStatus(
+                            payment.getStatus() == Payment.PaymentStatus.PAID
+                                    ? Payment.PaymentStatus.DUE : Payment.PaymentStatus.PAID)));
+            default -> throw new IllegalArgumentException("Unknown harness operation: " + name);
+        };
+    }
+
+    /**
+     * Each thread round-robins over the operations until the phase ends and
+     * records {operation index, latency nanos} pairs locally.
+     */
+    private Map<String, List<long[]>> runPhase(Map<String, Runnable> operations, Duration phase)
+            throws InterruptedException {
+        List<String> names = new ArrayList<>(operations.keySet());
+        List<Runnable> actions = new ArrayList<>(operations.values());
+        long deadline = System.nanoTime() + phase.toNanos();
+        List<List<long[]>> perThread = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            List<long[]> samples = new ArrayList<>();
+            perThread.add(samples);
+            int offset = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    for (long i = offset; System.nanoTime() < deadline; i++) {
+                        int op = (int) (i % actions.size());
+                        long start = System.nanoTime();
+                        actions.get(op).run();
+                        samples.add(new long[] {op, System.nanoTime() - start});
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "harness-" + t);
+            worker.start();
+        }
+        done.await();
+
+        Map<String, List<long[]>> byOperation = new LinkedHashMap<>();
+        names.forEach(name -> byOperation.put(name, new ArrayList<>()));
+        perThread.forEach(samples -> samples.forEach(sample -> byOperation.get(names.get((int) sample[0])).add(sample)));
+        return byOperation;
+    }
+
+    private void report(Map<String, List<long[]>> results) {
+        double seconds = duration.toMillis() / 1000.0;
+        long total = 0;
+        System.out.printf("%-26s %10s %10s %9s %9s %9s%n", "operation", "count", "ops/s", "p50 ms", "p95 ms", "p99 ms");
+        for (Map.Entry<String, List<long[]>> entry : results.entrySet()) {
+            long[] latencies = entry.getValue().stream().mapToLong(sample -> sample[1]).toArray();
+            Arrays.sort(latencies);
+            total += latencies.length;
+            System.out.printf("%-26s %10d %10.1f %9.2f %9.2f %9.2f%n", entry.getKey(), latencies.length,
+                    latencies.length / seconds, percentile(latencies, 50), percentile(latencies, 95),
+                    percentile(latencies, 99));
+        }
+        System.out.printf("%-26s %10d %10.1f%n", "total", total, total / seconds);
+        System.out.println("Pool: " + describePool());
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private String describePool() {
+        HikariDataSource hikari = unwrapHikari();
+        if (hikari != null && hikari.getHikariPoolMXBean() != null) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            return String.format("max=%d active=%d idle=%d waiting=%d", hikari.getMaximumPoolSize(),
+                    pool.getActiveConnections(), pool.getIdleConnections(), pool.getThreadsAwaitingConnection());
+        }
+        return dataSource.getClass().getSimpleName();
+    }
+
+    // The pool sits behind the statement-timeout wrapper from StatementTimeoutConfig
+    private HikariDataSource unwrapHikari() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private long randomCustomerId() {
+        return ThreadLocalRandom.current().nextLong(minCustomerId, maxCustomerId + 1);
+    }
+
+    private long randomPaymentId() {
+        return ThreadLocalRandom.current().nextLong(minPaymentId, maxPaymentId + 1);
+    }
+}
@@ -0,0 +1,274 @@
+package com.paymentmanagement.loadtest;
+
+import com.paymentmanagement.config.TenantContext;
+import com.paymentmanagement.dto.CustomerDTO;
+import com.paymentmanagement.dto.PaymentDTO;
+import com.paymentmanagement.entity.Payment;
+import com.paymentmanagement.service.CustomerService;
+import com.paymentmanagement.service.PaymentService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Populates the configured database with synthetic customers and their
+ * ten-week payment schedules, then exits. Borrowers get a reliability class
+ * that decides how many past installments they paid and how late, so the
+ * status mix and the dashboard aggregates look like real data rather than
+ * uniform noise. Only active with the "loadtest-data" profile; see
+ * application-loadtest-data.properties.
+ *
+ * Two modes: "sql" writes customers and payments with JDBC batch inserts
+ * (fast, for 100k-1M customers); "service" goes through
+ * CustomerService.createCustomer and PaymentService.updatePaymentStatus, so
+ * events, audit records and risk scores are produced exactly as in
+ * production, at request speed.
+ */
+@Component
+@Profile("loadtest-data")
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final int SCHEDULE_WEEKS = 10;
+
+    private static final String[] FIRST_NAMES = {
+            "Ravi", "Lakshmi", "Suresh", "Priya", "Venkat", "Anitha", "Ramesh", "Kavya", "Srinivas", "Divya",
+            "Mahesh", "Swathi", "Naresh", "Padma", "Kiran", "Sravani", "Prakash", "Bhavani", "Raju", "Sunitha"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Kumar", "Reddy", "Rao", "Naidu", "Sharma", "Chowdary", "Varma", "Goud", "Shetty", "Patel"
+    };
+
+    private static final double[] LOAN_AMOUNTS = { 5000, 10000, 10000, 15000, 20000, 20000, 25000, 50000 };
+
+    private static final String INSERT_CUSTOMER_SQL =
+            "INSERT INTO customers (id, name, phone, total_amount, weekly_amount, date_of_amount_taken, " +
+            "day_of_amount_taken, version, tenant_id) VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?)";
+
+    private static final String INSERT_PAYMENT_SQL =
+            "INSERT INTO payments (customer_id, payment_date, amount, status, paid_date, week_number, version, " +
+            "tenant_id) VALUES (?, ?, ?, ?, ?, ?, 0, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Value("${app.loadtest.data.customers:10000}")
+    private int customers;
+
+    @Value("${app.loadtest.data.mode:sql}")
+    private String mode;
+
+    @Value("${app.loadtest.data.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.loadtest.data.seed:42}")
+    private long seed;
+
+    // Loans are taken over this many past weeks, so schedules range from
+    // fully settled to not yet started
+    @Value("${app.loadtest.data.history-weeks:20}")
+    private int historyWeeks;
+
+    // Share of customers reusing an earlier customer's phone (repeat borrowers)
+    @Value("${app.loadtest.data.repeat-borrower-rate:0.1}")
+    private double repeatBorrowerRate;
+
+    @Value("${app.loadtest.data.tenant:" + TenantContext.DEFAULT_TENANT + "}")
+    private String tenantId;
+
+    private final LocalDate today = LocalDate.now();
+
+    @Override
+    public void run(String... args) throws Exception {
+        Random random = new Random(seed);
+        System.out.printf("Synthetic data generator: %d customers, mode=%s, tenant=%s, seed=%d%n",
+                customers, mode, tenantId, seed);
+
+        long started = System.currentTimeMillis();
+        long payments = switch (mode) {
+            case "sql" -> generateWithSql(random);
+            case "service" -> generateWithServices(random);
+            default -> throw new IllegalArgumentException("Unknown generator mode: " + mode);
+        };
+        // Fresh planner statistics, otherwise the first measurements run on
+        // plans made for the old table sizes
+        jdbcTemplate.execute("ANALYZE customers");
+        jdbcTemplate.execute("ANALYZE payments");
+
+        long elapsed = System.currentTimeMillis() - started;
+        System.out.printf("Generated %d customers and %d payments in %.1f s (%.0f customers/s)%n",
+                customers, payments, elapsed / 1000.0, customers * 1000.0 / Math.max(elapsed, 1));
+
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    private long generateWithSql(Random random) {
+        List<String> phones = new ArrayList<>();
+        long payments = 0;
+        for (int done = 0; done < customers; done += batchSize) {
+            int size = Math.min(batchSize, customers - done);
+            // Ids come from the same sequence IDENTITY uses, so later inserts
+            // through JPA continue after the generated rows
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT nextval('customers_id_seq') FROM generate_series(1, ?)", Long.class, size);
+            List<SyntheticCustomer> batch = new ArrayList<>(size);
+            for (Long id : ids) {
+                batch.add(newCustomer(id, random, phones));
+            }
+            jdbcTemplate.batchUpdate(INSERT_CUSTOMER_SQL, batch, batch.size(), (ps, customer) -> {
+                ps.setLong(1, customer.id);
+                ps.setString(2, customer.name);
+                ps.setString(3, customer.phone);
+                ps.setDouble(4, customer.totalAmount);
+                ps.setDouble(5, customer.weeklyAmount());
+                ps.setDate(6, Date.valueOf(customer.dateTaken));
+                ps.setString(7, customer.dateTaken.getDayOfWeek().toString());
+                ps.setString(8, tenantId);
+            });
+
+            List<SyntheticPayment> schedule = new ArrayList<>(size * SCHEDULE_WEEKS);
+            batch.forEach(customer -> schedule.addAll(newSchedule(customer, random)));
+            jdbcTemplate.batchUpdate(INSERT_PAYMENT_SQL, schedule, schedule.size(), (ps, payment) -> {
+                ps.setLong(1, payment.customerId);
+                ps.setDate(2, Date.valueOf(payment.paymentDate));
+                ps.setDouble(3, payment.amount);
+                ps.setString(4, payment.status.name());
+                ps.setDate(5, payment.paidDate != null ? Date.valueOf(payment.paidDate) : null);
+                ps.setInt(6, payment.weekNumber);
+                ps.setString(7, tenantId);
+            });
+            payments += schedule.size();
+            progress(done, done + size);
+        }
+        return payments;
+    }
+
+    private long generateWithServices(Random random) {
+        List<String> phones = new ArrayList<>();
+        long payments = 0;
+        TenantContext.setTenantId(tenantId);
+        try {
+            for (int done = 0; done < customers; done++) {
+                SyntheticCustomer customer = newCustomer(null, random, phones);
+                CustomerDTO created = customerService.createCustomer(new CustomerDTO(
+                        customer.name, customer.phone, customer.totalAmount, customer.dateTaken));
+                customer.id = created.getId();
+                // The service schedules past weeks as MISSED; mark the ones
+                // this borrower paid (paid date is then today, as in the UI)
+                List<SyntheticPayment> schedule = newSchedule(customer, random);
+                List<PaymentDTO> createdPayments = paymentService.getPaymentsByCustomerId(customer.id);
+                for (PaymentDTO payment : createdPayments) {
+                    Payment.PaymentStatus status = schedule.get(payment.getWeekNumber() - 1).status;
+                    if (status == Payment.PaymentStatus.PAID) {
+                        paymentService.updatePaymentStatus(payment.getId(), status, null);
+                    }
+                }
+                payments += createdPayments.size();
+                progress(done, done + 1);
+            }
+        } finally {
+            TenantContext.clear();
+        }
+        return payments;
+    }
+
+    private SyntheticCustomer newCustomer(Long id, Random random, List<String> phones) {
+        SyntheticCustomer customer = new SyntheticCustomer();
+        customer.id = id;
+        customer.name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        if (!phones.isEmpty() && random.nextDouble() < repeatBorrowerRate) {
+            customer.phone = phones.get(random.nextInt(phones.size()));
+        } else {
+            customer.phone = String.valueOf(6_000_000_000L + (long) (random.nextDouble() * 3_999_999_999L));
+            // Bounded sample of phones to reuse, so memory stays flat at 1M customers
+            if (phones.size() < 100_000) {
+                phones.add(customer.phone);
+            } else {
+                phones.set(random.nextInt(phones.size()), customer.phone);
+            }
+        }
+        customer.totalAmount = LOAN_AMOUNTS[random.nextInt(LOAN_AMOUNTS.length)];
+        customer.dateTaken = today.minusDays(random.nextInt(historyWeeks * 7 + 1));
+        // Most borrowers pay reliably, some are irregular and a few mostly default
+        double reliabilityClass = random.nextDouble();
+        customer.payRate = reliabilityClass < 0.6 ? 0.95 : reliabilityClass < 0.9 ? 0.75 : 0.35;
+        customer.maxDaysLate = reliabilityClass < 0.6 ? 1 : reliabilityClass < 0.9 ? 4 : 10;
+        return customer;
+    }
+
+    // Same schedule rules as CustomerService: first installment a week after
+    // the loan, unpaid past weeks MISSED, the rest DUE
+    private List<SyntheticPayment> newSchedule(SyntheticCustomer customer, Random random) {
+        List<SyntheticPayment> schedule = new ArrayList<>(SCHEDULE_WEEKS);
+        for (int week = 1; week <= SCHEDULE_WEEKS; week++) {
+            SyntheticPayment payment = new SyntheticPayment();
+            payment.customerId = customer.id != null ? customer.id : 0;
+            payment.weekNumber = week;
+            payment.paymentDate = customer.dateTaken.plusWeeks(week);
+            payment.amount = customer.weeklyAmount();
+            if (!payment.paymentDate.isBefore(today)) {
+                payment.status = Payment.PaymentStatus.DUE;
+            } else if (random.nextDouble() < customer.payRate) {
+                payment.status = Payment.PaymentStatus.PAID;
+                LocalDate paidDate = payment.paymentDate.plusDays(random.nextInt(customer.maxDaysLate + 1));
+                payment.paidDate = paidDate.isAfter(today) ? today : paidDate;
+            } else {
+                payment.status = Payment.PaymentStatus.MISSED;
+            }
+            schedule.add(payment);
+        }
+        return schedule;
+    }
+
+    // Prints roughly every 10% of the target
+    private void progress(int before, int after) {
+        int step = Math.max(customers / 10, 1);
+        if (before / step != after / step || after == customers) {
+            System.out.printf("  %d / %d customers%n", after, customers);
+        }
+    }
+
+    private static final class SyntheticCustomer {
+        private Long id;
+        private String name;
+        private String phone;
+        private double totalAmount;
+        private LocalDate dateTaken;
+        private double payRate;
+        private int maxDaysLate;
+
+        private double weeklyAmount() {
+            return Math.ceil(totalAmount / SCHEDULE_WEEKS);
+        }
+    }
+
+    private static final class SyntheticPayment {
+        private long customerId;
+        private int weekNumber;
+        private LocalDate paymentDate;
+        private double amount;
+        private Payment.PaymentStatus status;
+        private LocalDate paidDate;
+    }
+}
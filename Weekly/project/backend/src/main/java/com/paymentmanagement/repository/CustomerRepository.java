@@ -1,13 +1,21 @@
 package com.paymentmanagement.repository;
 
+import com.paymentmanagement.dto.CustomerSummaryDTO;
 import com.paymentmanagement.entity.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
+    // Primary-key lookups bypass the @TenantId restriction, so go through a query instead
+    @Override
+    @Query("SELECT c FROM Customer c WHERE c.id = :id")
+    Optional<Customer> findById(@Param("id") Long id);
+
     List<Customer> findByPhone(String phone);
     
     @Query("SELECT SUM(c.totalAmount) FROM Customer c")
@@ -15,4 +23,30 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     
     @Query("SELECT COUNT(c) FROM Customer c")
     Long getTotalCustomersCount();
+
+    @Query("SELECT c FROM Customer c WHERE LOWER(c.name) LIKE LOWER(CONCAT('%', :query, '%')) " +
+           "OR c.phone LIKE CONCAT('%', :query, '%')")
+    List<Customer> searchByNameOrPhone(@Param("query") String query);
+
+    String SUMMARY_SELECT =
+            "SELECT new com.paymentmanagement.dto.CustomerSummaryDTO(" +
+            "c.id, c.name, c.phone, c.totalAmount, c.dateOfAmountTaken, c.weeklyAmount, COUNT(p), " +
+            "SUM(CASE WHEN p.status = 'PAID' THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN p.status = 'MISSED' THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN p.status <> 'PAID' THEN p.amount ELSE 0.0 END), " +
+            "MIN(CASE WHEN p.status = 'DUE' THEN p.paymentDate END), " +
+            "MAX(p.paidDate)) " +
+            "FROM Customer c LEFT JOIN c.payments p ";
+
+    String SUMMARY_GROUP_BY =
+            " GROUP BY c.id, c.name, c.phone, c.totalAmount, c.dateOfAmountTaken, c.weeklyAmount ORDER BY c.id";
+
+    // One grouped query instead of loading every payment row per customer
+    @Query(SUMMARY_SELECT + SUMMARY_GROUP_BY)
+    List<CustomerSummaryDTO> findAllSummaries();
+
+    @Query(SUMMARY_SELECT +
+           "WHERE LOWER(c.name) LIKE LOWER(CONCAT('%', :query, '%')) OR c.phone LIKE CONCAT('%', :query, '%')" +
+           SUMMARY_GROUP_BY)
+    List<CustomerSummaryDTO> searchSummaries(@Param("query") String query);
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.paymentmanagement.repository;
+
+import com.paymentmanagement.dto.CustomerRiskDTO;
+import com.paymentmanagement.entity.CustomerRiskScore;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface CustomerRiskScoreRepository extends JpaRepository<CustomerRiskScore, Long> {
+
+    // Hibernate leads the WHERE clause with r.tenant_id (@TenantId), so this walks
+    // idx_customer_risk_scores_tenant_score (tenant_id, score DESC) and stops after the page
+    @Query("SELECT new com.paymentmanagement.dto.CustomerRiskDTO(" +
+           "c.id, c.name, c.phone, r.score, r.missRate, r.consecutiveMisses, r.avgDaysLate, r.exposure, r.computedAt) " +
+           "FROM CustomerRiskScore r JOIN Customer c ON c.id = r.customerId ORDER BY r.score DESC")
+    List<CustomerRiskDTO> findTopAtRisk(Pageable pageable);
+}
@@ -0,0 +1,42 @@
+package com.paymentmanagement.repository;
+
+import com.paymentmanagement.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    // Atomic claim: returns 0 when another request already holds the key. An
+    // expired row the purge has not removed yet, or an unanswered claim older
+    // than staleBefore, is overwritten as if absent
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (idempotency_key, request_hash, expires_at, claimed_at) " +
+                   "VALUES (:key, :requestHash, :expiresAt, :claimedAt) ON CONFLICT (idempotency_key) DO UPDATE " +
+                   "SET request_hash = EXCLUDED.request_hash, response_status = NULL, response_body = NULL, " +
+                   "expires_at = EXCLUDED.expires_at, claimed_at = EXCLUDED.claimed_at " +
+                   "WHERE idempotency_keys.expires_at < :claimedAt " +
+                   "OR (idempotency_keys.response_status IS NULL AND idempotency_keys.claimed_at < :staleBefore)",
+           nativeQuery = true)
+    int claim(@Param("key") String key, @Param("requestHash") String requestHash, @Param("expiresAt") Instant expiresAt,
+              @Param("claimedAt") Instant claimedAt, @Param("staleBefore") Instant staleBefore);
+
+    // Only the request that holds the claim may answer or release it
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.responseStatus = :status, k.responseBody = :body " +
+           "WHERE k.key = :key AND k.claimedAt = :claimedAt")
+    int complete(@Param("key") String key, @Param("claimedAt") Instant claimedAt, @Param("status") Integer status,
+                 @Param("body") String body);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.key = :key AND k.claimedAt = :claimedAt AND k.responseStatus IS NULL")
+    int release(@Param("key") String key, @Param("claimedAt") Instant claimedAt);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
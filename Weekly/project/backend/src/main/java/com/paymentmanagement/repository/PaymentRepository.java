@@ -2,15 +2,27 @@ package com.paymentmanagement.repository;
 
 import com.paymentmanagement.entity.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
+    // Primary-key lookups bypass the @TenantId restriction, so go through a query instead
+    @Override
+    @Query("SELECT p FROM Payment p WHERE p.id = :id")
+    Optional<Payment> findById(@Param("id") Long id);
+
     List<Payment> findByCustomerId(Long customerId);
+
+    @Modifying
+    @Query("UPDATE Payment p SET p.deletedAt = :deletedAt WHERE p.customer.id = :customerId")
+    int softDeleteByCustomerId(@Param("customerId") Long customerId, @Param("deletedAt") Instant deletedAt);
     
     @Query("SELECT SUM(p.amount) FROM Payment p WHERE p.status = 'PAID'")
     Double getTotalAmountReceived();
@@ -0,0 +1,22 @@
+package com.paymentmanagement.repository;
+
+import com.paymentmanagement.entity.ReconciliationFinding;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface ReconciliationFindingRepository extends JpaRepository<ReconciliationFinding, Long> {
+
+    List<ReconciliationFinding> findByRunIdOrderByCustomerIdAscIdAsc(Long runId, Pageable pageable);
+
+    List<ReconciliationFinding> findByRunIdAndTypeOrderByCustomerIdAscIdAsc(
+            Long runId, ReconciliationFinding.FindingType type, Pageable pageable);
+
+    @Query("SELECT f.type, COUNT(f), SUM(CASE WHEN f.repaired = true THEN 1 ELSE 0 END) " +
+           "FROM ReconciliationFinding f WHERE f.runId = :runId GROUP BY f.type")
+    List<Object[]> countByType(@Param("runId") Long runId);
+}
@@ -0,0 +1,20 @@
+package com.paymentmanagement.repository;
+
+import com.paymentmanagement.entity.ReconciliationRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReconciliationRunRepository extends JpaRepository<ReconciliationRun, Long> {
+
+    // Primary-key lookups bypass the @TenantId restriction, so go through a query instead
+    @Override
+    @Query("SELECT r FROM ReconciliationRun r WHERE r.id = :id")
+    Optional<ReconciliationRun> findById(@Param("id") Long id);
+
+    List<ReconciliationRun> findTop20ByOrderByStartedAtDesc();
+}
@@ -1,15 +1,32 @@
 package com.paymentmanagement.service;
 
+import com.paymentmanagement.config.RequestDeadline;
+import com.paymentmanagement.config.TenantContext;
 import com.paymentmanagement.dto.AdminStatsDTO;
 import com.paymentmanagement.entity.Admin;
+import com.paymentmanagement.event.CustomerChangedEvent;
+import com.paymentmanagement.event.PaymentStatusChangedEvent;
 import com.paymentmanagement.repository.AdminRepository;
 import com.paymentmanagement.repository.CustomerRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 @Service
 @Transactional
@@ -27,6 +44,23 @@ public class AdminService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private TaskDecorator tenantTaskDecorator;
+
+    @Value("${app.stats.cache-ttl:PT5M}")
+    private Duration statsCacheTtl;
+
+    @Value("${app.stats.query-parallelism:5}")
+    private int statsQueryParallelism;
+
+    // Kept private rather than a bean: an Executor bean would replace the
+    // auto-configured executor used by @Async
+    private ThreadPoolTaskExecutor statsExecutor;
+
+    // Per-tenant dashboard aggregates; evicted when the tenant's data changes,
+    // the TTL bounds staleness of the date-based "this week" figure
+    private final Map<String, CachedStats> statsCache = new ConcurrentHashMap<>();
+
     public boolean authenticateAdmin(String phone, String password) {
         Optional<Admin> adminOpt = adminRepository.findByPhone(phone);
         if (adminOpt.isPresent()) {
@@ -49,20 +83,58 @@ public class AdminService {
         return false;
     }
 
-    public AdminStatsDTO getAdminStats() {
-        Long totalCustomers = customerRepository.getTotalCustomersCount();
-        Double totalAmountGiven = customerRepository.getTotalAmountGiven();
-        Double amountReceived = paymentService.getTotalAmountReceived();
-        Double thisWeekCollected = paymentService.getThisWeekCollectedAmount();
-        Long missedPayments = paymentService.getMissedPaymentsCount();
-
-        return new AdminStatsDTO(
-            totalCustomers != null ? totalCustomers : 0L,
-            totalAmountGiven != null ? totalAmountGiven : 0.0,
-            amountReceived != null ? amountReceived : 0.0,
-            thisWeekCollected != null ? thisWeekCollected : 0.0,
-            missedPayments != null ? missedPayments : 0L
-        );
+    // Runs on the request thread only long enough to hand the work to the stats
+    // executor, so no connection is bound to the servlet thread
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<AdminStatsDTO> getAdminStats() {
+        String tenantId = TenantContext.getTenantId();
+        Instant now = Instant.now();
+        // One computation per tenant at a time: concurrent viewers on a cold or
+        // expired cache share the in-flight result instead of each running the queries
+        CachedStats entry = statsCache.compute(tenantId, (key, cached) ->
+                cached != null && !cached.isExpired(now)
+                        ? cached
+                        : new CachedStats(computeAdminStats(), now.plus(statsCacheTtl)));
+        CompletableFuture<AdminStatsDTO> stats = entry.stats();
+        stats.whenComplete((result, error) -> {
+            if (error != null) {
+                statsCache.remove(tenantId, entry);
+            }
+        });
+        return stats;
+    }
+
+    @TransactionalEventListener
+    public void onPaymentStatusChanged(PaymentStatusChangedEvent event) {
+        statsCache.remove(event.getTenantId());
+    }
+
+    @TransactionalEventListener
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        statsCache.remove(event.getTenantId());
+    }
+
+    // The aggregates touch different tables/indexes and do not depend on each
+    // other, so each runs in its own read transaction on the stats executor
+    private CompletableFuture<AdminStatsDTO> computeAdminStats() {
+        CompletableFuture<Long> totalCustomers = supplyStat(customerRepository::getTotalCustomersCount);
+        CompletableFuture<Double> totalAmountGiven = supplyStat(customerRepository::getTotalAmountGiven);
+        CompletableFuture<Double> amountReceived = supplyStat(paymentService::getTotalAmountReceived);
+        CompletableFuture<Double> thisWeekCollected = supplyStat(paymentService::getThisWeekCollectedAmount);
+        CompletableFuture<Long> missedPayments = supplyStat(paymentService::getMissedPaymentsCount);
+
+        return CompletableFuture.allOf(totalCustomers, totalAmountGiven, amountReceived, thisWeekCollected, missedPayments)
+                .thenApply(done -> new AdminStatsDTO(
+                    totalCustomers.join() != null ? totalCustomers.join() : 0L,
+                    totalAmountGiven.join() != null ? totalAmountGiven.join() : 0.0,
+                    amountReceived.join() != null ? amountReceived.join() : 0.0,
+                    thisWeekCollected.join() != null ? thisWeekCollected.join() : 0.0,
+                    missedPayments.join() != null ? missedPayments.join() : 0L
+                ));
+    }
+
+    private <T> CompletableFuture<T> supplyStat(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, statsExecutor);
     }
 
     public void createDefaultAdmin() {
@@ -71,4 +143,28 @@ public class AdminService {
             adminRepository.save(admin);
         }
     }
+
+    @PostConstruct
+    void startStatsExecutor() {
+        statsExecutor = new ThreadPoolTaskExecutor();
+        statsExecutor.setCorePoolSize(statsQueryParallelism);
+        statsExecutor.setMaxPoolSize(statsQueryParallelism);
+        statsExecutor.setThreadNamePrefix("stats-");
+        // The queries answer the request that started them: they carry its
+        // deadline as well as its tenant
+        statsExecutor.setTaskDecorator(task -> tenantTaskDecorator.decorate(RequestDeadline.propagate(task)));
+        statsExecutor.initialize();
+    }
+
+    @PreDestroy
+    void stopStatsExecutor() {
+        statsExecutor.shutdown();
+    }
+
+    private record CachedStats(CompletableFuture<AdminStatsDTO> stats, Instant expiresAt) {
+        // A computation still in flight is never expired, so it is always shared
+        boolean isExpired(Instant now) {
+            return stats.isDone() && !expiresAt.isAfter(now);
+        }
+    }
 }
\ No newline at end of file
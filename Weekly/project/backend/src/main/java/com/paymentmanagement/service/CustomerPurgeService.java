@@ -0,0 +1,112 @@
+package com.paymentmanagement.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Physically removes soft-deleted customers and their payments once the
+ * retention period has passed. Deliberately not @Transactional: every chunk
+ * is its own short auto-committed statement, so row locks are held briefly
+ * and concurrent traffic on the payments table is not blocked.
+ */
+@Service
+public class CustomerPurgeService {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerPurgeService.class);
+
+    private static final String SELECT_EXPIRED_CUSTOMERS_SQL =
+            "SELECT id FROM customers WHERE deleted_at < ? AND id > ? ORDER BY id LIMIT ?";
+
+    // Payments are found through idx_payments_customer_week; SKIP LOCKED keeps
+    // a chunk from waiting on rows some other statement holds
+    private static final String DELETE_PAYMENTS_CHUNK_SQL =
+            "DELETE FROM payments WHERE id IN (SELECT id FROM payments WHERE customer_id = ANY(?) " +
+            "AND deleted_at IS NOT NULL LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+    private static final String DELETE_CUSTOMERS_SQL =
+            "DELETE FROM customers c WHERE c.id = ANY(?) AND c.deleted_at IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM payments p WHERE p.customer_id = c.id)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.purge.retention:P30D}")
+    private Duration retention;
+
+    @Value("${app.purge.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.purge.chunk-pause:PT0.05S}")
+    private Duration chunkPause;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(fixedDelayString = "${app.purge.interval:PT1H}")
+    public void purgeDeletedCustomers() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Timestamp cutoff = Timestamp.from(Instant.now().minus(retention));
+            long started = System.currentTimeMillis();
+            long payments = 0;
+            long customers = 0;
+            long lastId = 0;
+            List<Long> customerIds;
+            do {
+                // Keyset over customer ids, so a customer whose payments are
+                // still locked is retried on the next run instead of looping here
+                customerIds = jdbcTemplate.queryForList(SELECT_EXPIRED_CUSTOMERS_SQL, Long.class,
+                        cutoff, lastId, chunkSize);
+                if (customerIds.isEmpty()) {
+                    break;
+                }
+                lastId = customerIds.get(customerIds.size() - 1);
+                Long[] ids = customerIds.toArray(new Long[0]);
+                int deleted;
+                do {
+                    deleted = jdbcTemplate.update(DELETE_PAYMENTS_CHUNK_SQL, idsAndLimit(ids, chunkSize));
+                    payments += deleted;
+                    pause();
+                } while (deleted > 0);
+                customers += jdbcTemplate.update(DELETE_CUSTOMERS_SQL, idsAndLimit(ids, null));
+            } while (customerIds.size() == chunkSize && !Thread.currentThread().isInterrupted());
+
+            if (customers > 0 || payments > 0) {
+                log.info("Purged {} deleted customers and {} payments in {} ms",
+                        customers, payments, System.currentTimeMillis() - started);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private PreparedStatementSetter idsAndLimit(Long[] ids, Integer limit) {
+        return ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids));
+            if (limit != null) {
+                ps.setInt(2, limit);
+            }
+        };
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(chunkPause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.paymentmanagement.service;
 
 import com.paymentmanagement.dto.CustomerDTO;
+import com.paymentmanagement.dto.CustomerSummaryDTO;
 import com.paymentmanagement.entity.Customer;
 import com.paymentmanagement.entity.Payment;
+import com.paymentmanagement.event.CustomerChangedEvent;
 import com.paymentmanagement.repository.CustomerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -23,6 +30,9 @@ public class CustomerService {
     @Autowired
     private PaymentService paymentService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public List<CustomerDTO> getAllCustomers() {
         return customerRepository.findAll().stream()
                 .map(this::convertToDTO)
@@ -42,43 +52,67 @@ public class CustomerService {
     }
 
     public List<CustomerDTO> searchCustomers(String query) {
-        List<Customer> customers = customerRepository.findAll();
-        return customers.stream()
-                .filter(customer -> 
-                    customer.getName().toLowerCase().contains(query.toLowerCase()) ||
-                    customer.getPhone().contains(query))
+        return customerRepository.searchByNameOrPhone(query).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    public List<CustomerSummaryDTO> getCustomerSummaries() {
+        return customerRepository.findAllSummaries();
+    }
+
+    public List<CustomerSummaryDTO> searchCustomerSummaries(String query) {
+        return customerRepository.searchSummaries(query);
+    }
+
     public CustomerDTO createCustomer(CustomerDTO customerDTO) {
         Customer customer = convertToEntity(customerDTO);
         customer = customerRepository.save(customer);
         
         // Generate weekly payments starting from next week
         generateWeeklyPayments(customer);
+        eventPublisher.publishEvent(new CustomerChangedEvent(
+                customer.getTenantId(), customer.getId(), CustomerChangedEvent.ChangeType.CREATED));
         
         return convertToDTO(customer);
     }
 
+    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = 3,
+               backoff = @Backoff(delay = 20, multiplier = 2, random = true))
     public CustomerDTO updateCustomer(Long id, CustomerDTO customerDTO) {
         Customer existingCustomer = customerRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Customer not found with id: " + id));
+        // The client edited an older version: applying its values would silently
+        // undo the change made since it read the customer
+        if (customerDTO.getVersion() != null && !customerDTO.getVersion().equals(existingCustomer.getVersion())) {
+            throw new StaleVersionException("Customer", id, customerDTO.getVersion(), existingCustomer.getVersion());
+        }
         
         existingCustomer.setName(customerDTO.getName());
         existingCustomer.setPhone(customerDTO.getPhone());
         existingCustomer.setTotalAmount(customerDTO.getTotalAmount());
         existingCustomer.setDateOfAmountTaken(customerDTO.getDateOfAmountTaken());
         
-        Customer updatedCustomer = customerRepository.save(existingCustomer);
+        Customer updatedCustomer = customerRepository.saveAndFlush(existingCustomer);
+        eventPublisher.publishEvent(new CustomerChangedEvent(
+                updatedCustomer.getTenantId(), id, CustomerChangedEvent.ChangeType.UPDATED));
         return convertToDTO(updatedCustomer);
     }
 
+    // Soft delete: the customer and its payments disappear from every query at
+    // once and are physically removed later by CustomerPurgeService
+    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = 3,
+               backoff = @Backoff(delay = 20, multiplier = 2, random = true))
     public void deleteCustomer(Long id) {
-        if (!customerRepository.existsById(id)) {
-            throw new RuntimeException("Customer not found with id: " + id);
-        }
-        customerRepository.deleteById(id);
+        Customer customer = customerRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Customer not found with id: " + id));
+
+        Instant deletedAt = Instant.now();
+        customer.setDeletedAt(deletedAt);
+        customerRepository.saveAndFlush(customer);
+        paymentService.softDeletePaymentsForCustomer(id, deletedAt);
+        eventPublisher.publishEvent(new CustomerChangedEvent(
+                customer.getTenantId(), id, CustomerChangedEvent.ChangeType.DELETED));
     }
 
     private void generateWeeklyPayments(Customer customer) {
@@ -123,6 +157,7 @@ public class CustomerService {
         dto.setDateOfAmountTaken(customer.getDateOfAmountTaken());
         dto.setDayOfAmountTaken(customer.getDayOfAmountTaken());
         dto.setWeeklyAmount(customer.getWeeklyAmount());
+        dto.setVersion(customer.getVersion());
         
         if (customer.getPayments() != null) {
             dto.setPayments(customer.getPayments().stream()
@@ -0,0 +1,219 @@
+package com.paymentmanagement.service;
+
+import com.paymentmanagement.config.TenantContext;
+import com.paymentmanagement.dto.AdminStatsDTO;
+import com.paymentmanagement.dto.DashboardChangeDTO;
+import com.paymentmanagement.dto.DashboardUpdateDTO;
+import com.paymentmanagement.event.CustomerChangedEvent;
+import com.paymentmanagement.event.PaymentStatusChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes dashboard updates over server-sent events. Changes are coalesced
+ * per subscriber (latest state per payment/customer) and flushed at most once
+ * per debounce window together with the tenant's current stats. Idle
+ * connections hold no thread and cost only a periodic heartbeat.
+ */
+@Service
+public class DashboardStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardStreamService.class);
+
+    @Autowired
+    private AdminService adminService;
+
+    @Value("${app.dashboard.debounce:PT1S}")
+    private Duration debounce;
+
+    @Value("${app.dashboard.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${app.dashboard.max-subscribers:1000}")
+    private int maxSubscribers;
+
+    @Value("${app.dashboard.emitter-timeout:PT30M}")
+    private Duration emitterTimeout;
+
+    @Value("${app.dashboard.flush-threads:2}")
+    private int flushThreads;
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    // Private for the same reason as the stats executor: a TaskScheduler bean
+    // would replace the one auto-configured for @Scheduled
+    private ThreadPoolTaskScheduler flushScheduler;
+
+    /**
+     * Opens a stream for the current tenant, or returns null when the
+     * subscriber limit is reached. The first event carries the current stats.
+     */
+    public SseEmitter subscribe() {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+        Subscriber subscriber = new Subscriber(TenantContext.getTenantId(),
+                new SseEmitter(emitterTimeout.toMillis()));
+        subscribers.computeIfAbsent(subscriber.tenantId, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(subscriber));
+        subscriber.scheduleFlush(Duration.ZERO);
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener
+    public void onPaymentStatusChanged(PaymentStatusChangedEvent event) {
+        publish(event.getTenantId(), "payment:" + event.getPaymentId(), new DashboardChangeDTO("PAYMENT",
+                event.getPaymentId(), event.getCustomerId(), "STATUS", event.getNewStatus(), event.getAmount()));
+    }
+
+    @TransactionalEventListener
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        publish(event.getTenantId(), "customer:" + event.getCustomerId(), new DashboardChangeDTO("CUSTOMER",
+                event.getCustomerId(), event.getCustomerId(), event.getChangeType().name(), null, null));
+    }
+
+    // Comment lines keep proxies from closing idle streams and reveal dead clients
+    @Scheduled(fixedDelayString = "${app.dashboard.heartbeat-interval:PT25S}")
+    public void sendHeartbeats() {
+        subscribers.values().forEach(tenantSubscribers -> tenantSubscribers.forEach(subscriber ->
+                send(subscriber, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void publish(String tenantId, String key, DashboardChangeDTO change) {
+        Set<Subscriber> tenantSubscribers = subscribers.get(tenantId);
+        if (tenantSubscribers != null) {
+            tenantSubscribers.forEach(subscriber -> subscriber.offer(key, change));
+        }
+    }
+
+    private void flush(Subscriber subscriber) {
+        List<DashboardChangeDTO> changes;
+        boolean resync;
+        synchronized (subscriber) {
+            changes = new ArrayList<>(subscriber.pending.values());
+            resync = subscriber.overflowed;
+            subscriber.pending.clear();
+            subscriber.overflowed = false;
+            subscriber.flushScheduled = false;
+        }
+
+        // Stats come from the per-tenant cache, so one recomputation after a
+        // change serves every open dashboard of that tenant
+        CompletableFuture<AdminStatsDTO> stats;
+        TenantContext.setTenantId(subscriber.tenantId);
+        try {
+            stats = adminService.getAdminStats();
+        } finally {
+            TenantContext.clear();
+        }
+        stats.handleAsync((result, error) -> {
+            send(subscriber, SseEmitter.event()
+                    .name("update")
+                    .data(new DashboardUpdateDTO(changes, resync, result), MediaType.APPLICATION_JSON));
+            return null;
+        }, flushScheduler);
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the container reports the error on the emitter as well
+            unsubscribe(subscriber);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        Set<Subscriber> tenantSubscribers = subscribers.get(subscriber.tenantId);
+        if (tenantSubscribers != null && tenantSubscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    @PostConstruct
+    void startFlushScheduler() {
+        flushScheduler = new ThreadPoolTaskScheduler();
+        flushScheduler.setPoolSize(flushThreads);
+        flushScheduler.setThreadNamePrefix("dashboard-");
+        flushScheduler.initialize();
+    }
+
+    @PreDestroy
+    void stopFlushScheduler() {
+        subscribers.values().forEach(tenantSubscribers ->
+                tenantSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        flushScheduler.shutdown();
+        log.info("Closed dashboard streams");
+    }
+
+    private final class Subscriber {
+        private final String tenantId;
+        private final SseEmitter emitter;
+
+        // Latest change per entity in arrival order, guarded by this
+        private final LinkedHashMap<String, DashboardChangeDTO> pending = new LinkedHashMap<>();
+        private boolean overflowed;
+        private boolean flushScheduled;
+
+        private Subscriber(String tenantId, SseEmitter emitter) {
+            this.tenantId = tenantId;
+            this.emitter = emitter;
+        }
+
+        private void offer(String key, DashboardChangeDTO change) {
+            synchronized (this) {
+                // Past the buffer limit individual changes are dropped and the
+                // client is told to reload instead
+                if (!overflowed) {
+                    pending.remove(key);
+                    pending.put(key, change);
+                    if (pending.size() > bufferSize) {
+                        pending.clear();
+                        overflowed = true;
+                    }
+                }
+            }
+            scheduleFlush(debounce);
+        }
+
+        private void scheduleFlush(Duration delay) {
+            synchronized (this) {
+                if (flushScheduled) {
+                    return;
+                }
+                flushScheduled = true;
+            }
+            flushScheduler.schedule(() -> flush(this), Instant.now().plus(delay));
+        }
+    }
+}
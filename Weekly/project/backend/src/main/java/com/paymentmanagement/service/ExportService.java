@@ -0,0 +1,79 @@
+package com.paymentmanagement.service;
+
+import com.paymentmanagement.entity.Payment;
+import com.paymentmanagement.util.CsvWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV exports read straight from a JDBC cursor. Running inside a read-only
+ * transaction keeps autocommit off, which is what makes the PostgreSQL driver
+ * honour the fetch size instead of buffering the whole result set.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportService {
+
+    private static final String PAYMENT_COLUMNS =
+            "SELECT p.id, p.customer_id, c.name, c.phone, p.week_number, p.payment_date, p.amount, p.status, p.paid_date " +
+            "FROM payments p JOIN customers c ON c.id = p.customer_id WHERE p.tenant_id = ? AND p.deleted_at IS NULL";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void exportCustomers(String tenantId, CsvWriter csv) {
+        csv.writeRow("id", "name", "phone", "total_amount", "date_of_amount_taken", "day_of_amount_taken", "weekly_amount");
+        jdbcTemplate.query(
+                "SELECT id, name, phone, total_amount, date_of_amount_taken, day_of_amount_taken, weekly_amount " +
+                "FROM customers WHERE tenant_id = ? AND deleted_at IS NULL ORDER BY id",
+                (RowCallbackHandler) rs -> csv.writeRow(rs.getLong(1), rs.getString(2), rs.getString(3),
+                        rs.getBigDecimal(4), rs.getObject(5, LocalDate.class), rs.getString(6), rs.getBigDecimal(7)),
+                tenantId);
+    }
+
+    public void exportPaymentLedger(String tenantId, CsvWriter csv) {
+        writePaymentHeader(csv);
+        jdbcTemplate.query(PAYMENT_COLUMNS + " ORDER BY p.customer_id, p.week_number",
+                paymentRowWriter(csv), tenantId);
+    }
+
+    // Same filters as PaymentService.getPaymentReports, applied in SQL instead of in memory
+    public void exportPaymentReport(String tenantId, LocalDate startDate, LocalDate endDate,
+                                    Payment.PaymentStatus status, CsvWriter csv) {
+        StringBuilder sql = new StringBuilder(PAYMENT_COLUMNS);
+        List<Object> args = new ArrayList<>();
+        args.add(tenantId);
+        if (startDate != null && endDate != null) {
+            sql.append(" AND p.paid_date BETWEEN ? AND ?");
+            args.add(startDate);
+            args.add(endDate);
+        }
+        if (status != null) {
+            sql.append(" AND p.status = ?");
+            args.add(status.name());
+        }
+        sql.append(" ORDER BY p.id");
+
+        writePaymentHeader(csv);
+        jdbcTemplate.query(sql.toString(),
+                paymentRowWriter(csv), args.toArray());
+    }
+
+    private void writePaymentHeader(CsvWriter csv) {
+        csv.writeRow("payment_id", "customer_id", "customer_name", "phone", "week_number",
+                "payment_date", "amount", "status", "paid_date");
+    }
+
+    // Numbers and dates are read typed so the CSV writer never mistakes them for formulas
+    private RowCallbackHandler paymentRowWriter(CsvWriter csv) {
+        return rs -> csv.writeRow(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getString(4), rs.getInt(5),
+                rs.getObject(6, LocalDate.class), rs.getBigDecimal(7), rs.getString(8), rs.getObject(9, LocalDate.class));
+    }
+}
@@ -0,0 +1,64 @@
+package com.paymentmanagement.service;
+
+import com.paymentmanagement.entity.IdempotencyKey;
+import com.paymentmanagement.repository.IdempotencyKeyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+@Service
+@Transactional
+public class IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Value("${app.idempotency.ttl:PT24H}")
+    private Duration ttl;
+
+    @Value("${app.idempotency.claim-lease:PT60S}")
+    private Duration claimLease;
+
+    /**
+     * Claims the key for a new request. Returns empty when the caller should
+     * process the request, or the existing record when the key was seen before.
+     * claimedAt identifies the claim in complete() and release(); a claim left
+     * unanswered for longer than app.idempotency.claim-lease can be taken over.
+     */
+    public Optional<IdempotencyKey> claim(String key, String requestHash, Instant claimedAt) {
+        if (idempotencyKeyRepository.claim(key, requestHash, claimedAt.plus(ttl), claimedAt,
+                claimedAt.minus(claimLease)) == 1) {
+            return Optional.empty();
+        }
+        return idempotencyKeyRepository.findById(key);
+    }
+
+    public void complete(String key, Instant claimedAt, int status, String body) {
+        if (idempotencyKeyRepository.complete(key, claimedAt, status, body) == 0) {
+            log.warn("Idempotency key {} was taken over before its response was stored", key);
+        }
+    }
+
+    // Failed requests give the key back so the client can retry with it
+    public void release(String key, Instant claimedAt) {
+        idempotencyKeyRepository.release(key, claimedAt);
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:PT15M}")
+    public void purgeExpired() {
+        int purged = idempotencyKeyRepository.deleteExpired(Instant.now());
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.paymentmanagement.service;
+
+import com.paymentmanagement.config.TenantContext;
+import com.paymentmanagement.dto.PaymentAuditEntryDTO;
+import com.paymentmanagement.dto.PaymentAuditPageDTO;
+import com.paymentmanagement.entity.Payment;
+import com.paymentmanagement.event.PaymentStatusChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only history of payment status transitions, stored in
+ * payment_audit_log, a table range-partitioned by month on ts (migration V8).
+ * The changes of a transaction are inserted as one batch just before it
+ * commits, so a status change and its audit record commit or roll back
+ * together. The monthly partitions are created here at startup and daily,
+ * months ahead of the writes that need them; writes never create one.
+ */
+@Service
+public class PaymentAuditService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO payment_audit_log (ts, customer_id, payment_id, amount, old_paid_date, new_paid_date, " +
+            "old_status, new_status, tenant_id, actor) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, ts, payment_id, customer_id, old_status, new_status, old_paid_date, new_paid_date, " +
+            "amount, actor FROM payment_audit_log WHERE tenant_id = ?";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+
+    private static final Payment.PaymentStatus[] STATUSES = Payment.PaymentStatus.values();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.audit.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.audit.partitions-ahead:2}")
+    private int partitionsAhead;
+
+    private final Set<YearMonth> knownPartitions = ConcurrentHashMap.newKeySet();
+
+    @EventListener
+    public void onPaymentStatusChanged(PaymentStatusChangedEvent event) {
+        record(event);
+    }
+
+    /**
+     * Records a payment change as part of the current transaction; a change
+     * made outside a transaction is recorded at once.
+     */
+    public void record(PaymentStatusChangedEvent entry) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingEntries().add(entry);
+        } else {
+            writeBatch(List.of(entry));
+        }
+    }
+
+    // Collects the transaction's entries and writes them before it commits;
+    // a rollback discards them with the changes they describe
+    @SuppressWarnings("unchecked")
+    private List<PaymentStatusChangedEvent> pendingEntries() {
+        List<PaymentStatusChangedEvent> pending =
+                (List<PaymentStatusChangedEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<PaymentStatusChangedEvent> entries = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, entries);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    writeBatch(entries);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(PaymentAuditService.this);
+                }
+            });
+            pending = entries;
+        }
+        return pending;
+    }
+
+    public PaymentAuditPageDTO getCustomerHistory(Long customerId, String cursor, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_COLUMNS).append(" AND customer_id = ?");
+        List<Object> args = new ArrayList<>(List.of(TenantContext.getTenantId(), customerId));
+        return queryPage(sql, args, cursor, limit);
+    }
+
+    // Days are UTC days, like the partition bounds, so a day never depends on the server's time zone
+    public PaymentAuditPageDTO getDayHistory(LocalDate day, String cursor, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_COLUMNS).append(" AND ts >= ? AND ts < ?");
+        List<Object> args = new ArrayList<>(List.of(TenantContext.getTenantId(),
+                Timestamp.from(day.atStartOfDay(ZoneOffset.UTC).toInstant()),
+                Timestamp.from(day.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant())));
+        return queryPage(sql, args, cursor, limit);
+    }
+
+    // Keyset pagination, newest first: the cursor is the (ts, id) of the last
+    // entry returned, so deep pages cost the same as the first
+    private PaymentAuditPageDTO queryPage(StringBuilder sql, List<Object> args, String cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split("_", 2);
+            try {
+                Instant ts = Instant.EPOCH.plus(Long.parseLong(parts[0]), ChronoUnit.MICROS);
+                long id = Long.parseLong(parts[1]);
+                sql.append(" AND (ts, id) < (?, ?)");
+                args.add(Timestamp.from(ts));
+                args.add(id);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+        sql.append(" ORDER BY ts DESC, id DESC LIMIT ?");
+        args.add(size + 1);
+
+        List<PaymentAuditEntryDTO> entries = jdbcTemplate.query(sql.toString(), entryMapper(), args.toArray());
+        String nextCursor = null;
+        if (entries.size() > size) {
+            entries = new ArrayList<>(entries.subList(0, size));
+            PaymentAuditEntryDTO last = entries.get(size - 1);
+            nextCursor = ChronoUnit.MICROS.between(Instant.EPOCH, last.getTimestamp()) + "_" + last.getId();
+        }
+        return new PaymentAuditPageDTO(entries, nextCursor);
+    }
+
+    private RowMapper<PaymentAuditEntryDTO> entryMapper() {
+        return (rs, rowNum) -> {
+            Date oldPaidDate = rs.getDate(7);
+            Date newPaidDate = rs.getDate(8);
+            return new PaymentAuditEntryDTO(rs.getLong(1), rs.getTimestamp(2).toInstant(), rs.getLong(3),
+                    rs.getLong(4), STATUSES[rs.getShort(5)], STATUSES[rs.getShort(6)],
+                    oldPaidDate != null ? oldPaidDate.toLocalDate() : null,
+                    newPaidDate != null ? newPaidDate.toLocalDate() : null,
+                    rs.getDouble(9), rs.getString(10));
+        };
+    }
+
+    // A failure propagates, so the status change rolls back with its record
+    private void writeBatch(List<PaymentStatusChangedEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batchSize, (ps, event) -> {
+            ps.setTimestamp(1, Timestamp.from(event.getOccurredAt()));
+            ps.setLong(2, event.getCustomerId());
+            ps.setLong(3, event.getPaymentId());
+            ps.setDouble(4, event.getAmount());
+            ps.setObject(5, event.getOldPaidDate());
+            ps.setObject(6, event.getNewPaidDate());
+            ps.setShort(7, (short) event.getOldStatus().ordinal());
+            ps.setShort(8, (short) event.getNewStatus().ordinal());
+            ps.setString(9, event.getTenantId());
+            ps.setString(10, event.getActor());
+        });
+    }
+
+    // Creates this month's and the next partitions-ahead months' partitions,
+    // so inserts never hit a missing one. Runs outside any request: creating
+    // a partition locks the parent table, and the write path must not open a
+    // second connection for it
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.audit.partition-cron:0 0 1 * * *}")
+    public void ensurePartitions() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i <= partitionsAhead; i++) {
+            ensurePartition(current.plusMonths(i));
+        }
+    }
+
+    private void ensurePartition(YearMonth month) {
+        if (knownPartitions.contains(month)) {
+            return;
+        }
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS payment_audit_log_%s PARTITION OF payment_audit_log " +
+                "FOR VALUES FROM ('%s') TO ('%s')", month.format(PARTITION_SUFFIX),
+                month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant(),
+                month.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant()));
+        knownPartitions.add(month);
+    }
+}
@@ -1,12 +1,20 @@
 package com.paymentmanagement.service;
 
+import com.paymentmanagement.config.RequestActor;
 import com.paymentmanagement.dto.PaymentDTO;
 import com.paymentmanagement.entity.Payment;
+import com.paymentmanagement.event.CustomerChangedEvent;
+import com.paymentmanagement.event.PaymentStatusChangedEvent;
 import com.paymentmanagement.repository.PaymentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,26 +26,46 @@ public class PaymentService {
     @Autowired
     private PaymentRepository paymentRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public List<PaymentDTO> getPaymentsByCustomerId(Long customerId) {
         return paymentRepository.findByCustomerId(customerId).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
-    public PaymentDTO updatePaymentStatus(Long paymentId, Payment.PaymentStatus status) {
+    // A concurrent update of the same installment bumps its version; re-read and
+    // re-apply in a fresh transaction instead of overwriting the other change.
+    // When expectedVersion is given, a client that read an older version gets a conflict
+    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = 3,
+               backoff = @Backoff(delay = 20, multiplier = 2, random = true))
+    public PaymentDTO updatePaymentStatus(Long paymentId, Payment.PaymentStatus status, Long expectedVersion) {
         Payment payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new RuntimeException("Payment not found with id: " + paymentId));
+        if (expectedVersion != null && !expectedVersion.equals(payment.getVersion())) {
+            throw new StaleVersionException("Payment", paymentId, expectedVersion, payment.getVersion());
+        }
         
+        Payment.PaymentStatus oldStatus = payment.getStatus();
+        LocalDate oldPaidDate = payment.getPaidDate();
         payment.setStatus(status);
-        Payment updatedPayment = paymentRepository.save(payment);
+        Payment updatedPayment = paymentRepository.saveAndFlush(payment);
+        if (oldStatus != status) {
+            eventPublisher.publishEvent(new PaymentStatusChangedEvent(payment.getTenantId(),
+                    paymentId, payment.getCustomer().getId(), oldStatus, status, payment.getAmount(),
+                    oldPaidDate, payment.getPaidDate(), RequestActor.current(), Instant.now()));
+        }
         return convertToDTO(updatedPayment);
     }
 
     public void deletePayment(Long paymentId) {
-        if (!paymentRepository.existsById(paymentId)) {
-            throw new RuntimeException("Payment not found with id: " + paymentId);
-        }
-        paymentRepository.deleteById(paymentId);
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new RuntimeException("Payment not found with id: " + paymentId));
+        paymentRepository.delete(payment);
+        // The customer's schedule changed: refreshes stats caches, risk scores and dashboards after commit
+        eventPublisher.publishEvent(new CustomerChangedEvent(payment.getTenantId(), payment.getCustomer().getId(),
+                CustomerChangedEvent.ChangeType.UPDATED));
     }
 
     public List<PaymentDTO> getPaymentReports(String startDate, String endDate, Payment.PaymentStatus status) {
@@ -69,6 +97,10 @@ public class PaymentService {
         paymentRepository.saveAll(payments);
     }
 
+    public int softDeletePaymentsForCustomer(Long customerId, Instant deletedAt) {
+        return paymentRepository.softDeleteByCustomerId(customerId, deletedAt);
+    }
+
     public Double getTotalAmountReceived() {
         Double amount = paymentRepository.getTotalAmountReceived();
         return amount != null ? amount : 0.0;
@@ -97,6 +129,7 @@ public class PaymentService {
         dto.setWeekNumber(payment.getWeekNumber());
         dto.setPaidDate(payment.getPaidDate());
         dto.setCustomerId(payment.getCustomer().getId());
+        dto.setVersion(payment.getVersion());
         return dto;
     }
 
@@ -0,0 +1,472 @@
+package com.paymentmanagement.service;
+
+import com.paymentmanagement.config.TenantContext;
+import com.paymentmanagement.dto.ReconciliationFindingDTO;
+import com.paymentmanagement.dto.ReconciliationRunDTO;
+import com.paymentmanagement.entity.Payment;
+import com.paymentmanagement.entity.ReconciliationFinding;
+import com.paymentmanagement.entity.ReconciliationFinding.FindingType;
+import com.paymentmanagement.entity.ReconciliationRun;
+import com.paymentmanagement.event.CustomerChangedEvent;
+import com.paymentmanagement.event.PaymentStatusChangedEvent;
+import com.paymentmanagement.repository.ReconciliationFindingRepository;
+import com.paymentmanagement.repository.ReconciliationRunRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Checks that customers, their payment schedules and the amounts derived
+ * from them agree. A run pages through a tenant's customers by id (keyset)
+ * and reconciles chunks in parallel, one aggregate query per chunk. Findings
+ * are written as each chunk completes, so memory stays bounded by
+ * chunk size x parallelism however many customers there are. With auto-repair,
+ * each chunk's fixes are applied as set-based updates in one short
+ * transaction together with its findings.
+ */
+@Service
+public class ReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReconciliationService.class);
+
+    private static final int SCHEDULE_WEEKS = 10;
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private static final String NEXT_CHUNK_SQL =
+            "SELECT MIN(id), MAX(id), COUNT(*) FROM (SELECT id FROM customers " +
+            "WHERE tenant_id = ? AND deleted_at IS NULL AND id > ? ORDER BY id LIMIT ?) chunk";
+
+    private static final String EXPECTED_WEEKLY = "CEIL(c.total_amount / 10.0)";
+
+    private static final String EXPECTED_DATE = "c.date_of_amount_taken + p.week_number * 7";
+
+    private static final String CHUNK_SQL =
+            "SELECT c.id, c.total_amount, c.weekly_amount, " +
+            "COUNT(p.id), COUNT(DISTINCT p.week_number), " +
+            "COUNT(DISTINCT p.week_number) FILTER (WHERE p.week_number BETWEEN 1 AND " + SCHEDULE_WEEKS + "), " +
+            "COALESCE(SUM(p.amount), 0), " +
+            "COUNT(*) FILTER (WHERE p.status = 'PAID' AND p.amount <> " + EXPECTED_WEEKLY + "), " +
+            "COUNT(*) FILTER (WHERE p.status <> 'PAID' AND p.amount <> " + EXPECTED_WEEKLY + "), " +
+            "COUNT(*) FILTER (WHERE p.status <> 'PAID' AND p.payment_date <> " + EXPECTED_DATE + "), " +
+            "COUNT(*) FILTER (WHERE p.status = 'PAID' AND p.paid_date IS NULL), " +
+            "COUNT(*) FILTER (WHERE p.status <> 'PAID' AND p.paid_date IS NOT NULL) " +
+            "FROM customers c LEFT JOIN payments p ON p.customer_id = c.id AND p.deleted_at IS NULL " +
+            "WHERE c.tenant_id = ? AND c.deleted_at IS NULL AND c.id BETWEEN ? AND ? " +
+            "GROUP BY c.id ORDER BY c.id";
+
+    private static final String INSERT_FINDING_SQL =
+            "INSERT INTO reconciliation_findings " +
+            "(run_id, customer_id, type, expected_value, actual_value, repaired, tenant_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_PROGRESS_SQL =
+            "UPDATE reconciliation_runs SET customers_scanned = ?, findings_count = ?, repaired_count = ? WHERE id = ?";
+
+    private static final String AUDIT_ACTOR = "reconciliation";
+
+    // The audit log is a status and paid-date history, so only the paid-date
+    // repairs are recorded there; they return id, customer, status, amount
+    // and the old and new paid date of every row they touch
+    private static final Set<FindingType> AUDITED_REPAIRS =
+            EnumSet.of(FindingType.PAID_WITHOUT_PAID_DATE, FindingType.PAID_DATE_ON_UNPAID);
+
+    // Set-based fixes over the chunk's affected customers. Every touched row
+    // gets a version bump so concurrent edits fail optimistically instead of
+    // overwriting the repair.
+    private static final Map<FindingType, String> REPAIR_SQL = new EnumMap<>(Map.of(
+            FindingType.WEEKLY_AMOUNT_MISMATCH,
+            "UPDATE customers c SET weekly_amount = " + EXPECTED_WEEKLY + ", version = c.version + 1 " +
+            "WHERE c.id = ANY(?) AND c.deleted_at IS NULL",
+            FindingType.UNPAID_AMOUNT_MISMATCH,
+            "UPDATE payments p SET amount = " + EXPECTED_WEEKLY + ", version = p.version + 1 FROM customers c " +
+            "WHERE c.id = p.customer_id AND p.customer_id = ANY(?) AND p.deleted_at IS NULL " +
+            "AND p.status <> 'PAID' AND p.amount <> " + EXPECTED_WEEKLY,
+            FindingType.UNPAID_DATE_MISMATCH,
+            "UPDATE payments p SET payment_date = " + EXPECTED_DATE + ", version = p.version + 1 FROM customers c " +
+            "WHERE c.id = p.customer_id AND p.customer_id = ANY(?) AND p.deleted_at IS NULL " +
+            "AND p.status <> 'PAID' AND p.payment_date <> " + EXPECTED_DATE,
+            FindingType.MISSING_WEEKS,
+            "INSERT INTO payments (customer_id, payment_date, amount, status, week_number, version, tenant_id) " +
+            "SELECT c.id, c.date_of_amount_taken + w * 7, " + EXPECTED_WEEKLY + ", " +
+            "CASE WHEN c.date_of_amount_taken + w * 7 < CURRENT_DATE THEN 'MISSED' ELSE 'DUE' END, w, 0, c.tenant_id " +
+            "FROM customers c CROSS JOIN generate_series(1, " + SCHEDULE_WEEKS + ") w " +
+            "WHERE c.id = ANY(?) AND c.deleted_at IS NULL AND NOT EXISTS (SELECT 1 FROM payments p " +
+            "WHERE p.customer_id = c.id AND p.week_number = w AND p.deleted_at IS NULL)",
+            FindingType.PAID_WITHOUT_PAID_DATE,
+            "UPDATE payments p SET paid_date = p.payment_date, version = p.version + 1 " +
+            "WHERE p.customer_id = ANY(?) AND p.deleted_at IS NULL AND p.status = 'PAID' AND p.paid_date IS NULL " +
+            "RETURNING p.id, p.customer_id, p.status, p.amount, NULL::date, p.paid_date",
+            FindingType.PAID_DATE_ON_UNPAID,
+            // The self-join reads the row as it was before the update, for the old paid date
+            "UPDATE payments p SET paid_date = NULL, version = p.version + 1 FROM payments old " +
+            "WHERE old.id = p.id AND p.customer_id = ANY(?) AND p.deleted_at IS NULL AND p.status <> 'PAID' " +
+            "AND p.paid_date IS NOT NULL RETURNING p.id, p.customer_id, p.status, p.amount, old.paid_date, p.paid_date"
+    ));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ReconciliationRunRepository reconciliationRunRepository;
+
+    @Autowired
+    private ReconciliationFindingRepository reconciliationFindingRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PaymentAuditService paymentAuditService;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private TaskExecutor taskExecutor;
+
+    @Value("${app.reconciliation.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.reconciliation.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.reconciliation.scheduled-auto-repair:false}")
+    private boolean scheduledAutoRepair;
+
+    @Value("${app.tenants:" + TenantContext.DEFAULT_TENANT + "}")
+    private List<String> tenants;
+
+    private final Set<String> runningTenants = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Starts a run for the current tenant in the background.
+     *
+     * @throws IllegalStateException if the tenant already has a run in progress
+     */
+    public ReconciliationRunDTO startRun(boolean autoRepair) {
+        ReconciliationRun run = createRun(autoRepair);
+        try {
+            taskExecutor.execute(() -> execute(run));
+        } catch (RuntimeException e) {
+            runningTenants.remove(run.getTenantId());
+            throw e;
+        }
+        return convertToDTO(run, null);
+    }
+
+    // Weekly full check of every tenant, one tenant at a time
+    @Scheduled(cron = "${app.reconciliation.cron:0 30 3 * * SUN}")
+    public void reconcileAllTenants() {
+        for (String tenantId : tenants) {
+            TenantContext.setTenantId(tenantId);
+            try {
+                execute(createRun(scheduledAutoRepair));
+            } catch (IllegalStateException e) {
+                log.info("Skipping scheduled reconciliation of tenant {}: {}", tenantId, e.getMessage());
+            } finally {
+                TenantContext.clear();
+            }
+        }
+    }
+
+    public List<ReconciliationRunDTO> getRecentRuns() {
+        return reconciliationRunRepository.findTop20ByOrderByStartedAtDesc().stream()
+                .map(run -> convertToDTO(run, null))
+                .collect(Collectors.toList());
+    }
+
+    public ReconciliationRunDTO getRun(Long runId) {
+        ReconciliationRun run = reconciliationRunRepository.findById(runId)
+                .orElseThrow(() -> new RuntimeException("Reconciliation run not found with id: " + runId));
+        return convertToDTO(run, reconciliationFindingRepository.countByType(runId));
+    }
+
+    public List<ReconciliationFindingDTO> getFindings(Long runId, FindingType type, int page, int size) {
+        reconciliationRunRepository.findById(runId)
+                .orElseThrow(() -> new RuntimeException("Reconciliation run not found with id: " + runId));
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        List<ReconciliationFinding> findings = type != null
+                ? reconciliationFindingRepository.findByRunIdAndTypeOrderByCustomerIdAscIdAsc(runId, type, pageRequest)
+                : reconciliationFindingRepository.findByRunIdOrderByCustomerIdAscIdAsc(runId, pageRequest);
+        return findings.stream()
+                .map(f -> new ReconciliationFindingDTO(f.getCustomerId(), f.getType(), f.getExpectedValue(),
+                        f.getActualValue(), f.getRepaired()))
+                .collect(Collectors.toList());
+    }
+
+    private ReconciliationRun createRun(boolean autoRepair) {
+        String tenantId = TenantContext.getTenantId();
+        if (!runningTenants.add(tenantId)) {
+            throw new IllegalStateException("A reconciliation run is already in progress");
+        }
+        try {
+            return reconciliationRunRepository.save(new ReconciliationRun(autoRepair));
+        } catch (RuntimeException e) {
+            runningTenants.remove(tenantId);
+            throw e;
+        }
+    }
+
+    private void execute(ReconciliationRun run) {
+        String tenantId = run.getTenantId();
+        RunCounters counters = new RunCounters(run.getId());
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        // With all workers busy and the queue full the pager reconciles the
+        // next chunk itself, which throttles paging: at most 2 x parallelism
+        // chunks are held in memory at once
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism), new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            long lastId = 0;
+            while (failure.get() == null) {
+                long[] bounds = jdbcTemplate.queryForObject(NEXT_CHUNK_SQL,
+                        (rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2), rs.getLong(3) },
+                        tenantId, lastId, chunkSize);
+                if (bounds == null || bounds[2] == 0) {
+                    break;
+                }
+                lastId = bounds[1];
+                long fromId = bounds[0];
+                long toId = bounds[1];
+                pool.execute(() -> {
+                    try {
+                        reconcileChunk(tenantId, fromId, toId, run.getAutoRepair(), counters);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    }
+                });
+            }
+            pool.shutdown();
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new IllegalStateException("Reconciliation interrupted"));
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            pool.shutdownNow();
+            finishRun(run, counters, failure.get());
+            runningTenants.remove(tenantId);
+        }
+    }
+
+    private void reconcileChunk(String tenantId, long fromId, long toId, boolean autoRepair, RunCounters counters) {
+        List<Finding> findings = new ArrayList<>();
+        Map<FindingType, List<Long>> repairs = new EnumMap<>(FindingType.class);
+        int[] scanned = new int[1];
+        jdbcTemplate.query(CHUNK_SQL, rs -> {
+            scanned[0]++;
+            long customerId = rs.getLong(1);
+            double expectedWeekly = Math.ceil(rs.getDouble(2) / 10.0);
+            double weeklyAmount = rs.getDouble(3);
+            long installments = rs.getLong(4);
+            long distinctWeeks = rs.getLong(5);
+            long scheduledWeeks = rs.getLong(6);
+            double scheduleTotal = rs.getDouble(7);
+            long paidAmountMismatches = rs.getLong(8);
+
+            if (weeklyAmount != expectedWeekly) {
+                findings.add(new Finding(customerId, FindingType.WEEKLY_AMOUNT_MISMATCH,
+                        format(expectedWeekly), format(weeklyAmount)));
+            }
+            if (Math.abs(scheduleTotal - expectedWeekly * SCHEDULE_WEEKS) > 0.005) {
+                // Fixed by the unpaid-amount and missing-week repairs unless the
+                // difference sits in collected money or duplicated weeks
+                boolean repairable = paidAmountMismatches == 0 && installments == distinctWeeks
+                        && distinctWeeks == scheduledWeeks;
+                findings.add(new Finding(customerId, FindingType.SCHEDULE_TOTAL_MISMATCH,
+                        format(expectedWeekly * SCHEDULE_WEEKS), format(scheduleTotal), repairable));
+            }
+            if (scheduledWeeks < SCHEDULE_WEEKS) {
+                findings.add(new Finding(customerId, FindingType.MISSING_WEEKS,
+                        String.valueOf(SCHEDULE_WEEKS), String.valueOf(scheduledWeeks)));
+            }
+            if (installments > distinctWeeks) {
+                findings.add(new Finding(customerId, FindingType.DUPLICATE_WEEKS,
+                        String.valueOf(distinctWeeks), String.valueOf(installments), false));
+            }
+            if (paidAmountMismatches > 0) {
+                findings.add(new Finding(customerId, FindingType.PAID_AMOUNT_MISMATCH,
+                        "0", String.valueOf(paidAmountMismatches), false));
+            }
+            addCountFinding(findings, customerId, FindingType.UNPAID_AMOUNT_MISMATCH, rs.getLong(9));
+            addCountFinding(findings, customerId, FindingType.UNPAID_DATE_MISMATCH, rs.getLong(10));
+            addCountFinding(findings, customerId, FindingType.PAID_WITHOUT_PAID_DATE, rs.getLong(11));
+            addCountFinding(findings, customerId, FindingType.PAID_DATE_ON_UNPAID, rs.getLong(12));
+        }, tenantId, fromId, toId);
+
+        long repaired = 0;
+        if (!findings.isEmpty()) {
+            if (autoRepair) {
+                findings.stream()
+                        .filter(f -> f.repairable && REPAIR_SQL.containsKey(f.type))
+                        .forEach(f -> repairs.computeIfAbsent(f.type, type -> new ArrayList<>()).add(f.customerId));
+            }
+            repaired = writeFindings(tenantId, counters.runId, findings, repairs);
+        }
+        counters.add(scanned[0], findings.size(), repaired);
+    }
+
+    // Repairs and the findings describing them commit together, so a finding
+    // is marked repaired only if its fix is in the database
+    private long writeFindings(String tenantId, long runId, List<Finding> findings,
+                               Map<FindingType, List<Long>> repairs) {
+        if (!repairs.isEmpty()) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    Instant repairedAt = Instant.now();
+                    repairs.forEach((type, customerIds) -> {
+                        if (!AUDITED_REPAIRS.contains(type)) {
+                            jdbcTemplate.update(REPAIR_SQL.get(type), customerIdArray(customerIds));
+                        } else {
+                            jdbcTemplate.query(REPAIR_SQL.get(type), customerIdArray(customerIds), rs -> {
+                                Payment.PaymentStatus paymentStatus = Payment.PaymentStatus.valueOf(rs.getString(3));
+                                Date oldPaidDate = rs.getDate(5);
+                                Date newPaidDate = rs.getDate(6);
+                                paymentAuditService.record(new PaymentStatusChangedEvent(tenantId, rs.getLong(1),
+                                        rs.getLong(2), paymentStatus, paymentStatus, rs.getDouble(4),
+                                        oldPaidDate != null ? oldPaidDate.toLocalDate() : null,
+                                        newPaidDate != null ? newPaidDate.toLocalDate() : null,
+                                        AUDIT_ACTOR, repairedAt));
+                            });
+                        }
+                    });
+                    insertFindings(tenantId, runId, findings, true);
+                    // Refreshes stats caches, risk scores and dashboards after commit
+                    repairs.values().stream()
+                            .flatMap(List::stream)
+                            .collect(Collectors.toCollection(LinkedHashSet::new))
+                            .forEach(customerId -> eventPublisher.publishEvent(new CustomerChangedEvent(
+                                    tenantId, customerId, CustomerChangedEvent.ChangeType.UPDATED)));
+                    return findings.stream().filter(f -> f.repairable).count();
+                });
+            } catch (RuntimeException e) {
+                log.warn("Reconciliation repair failed for run {}, recording findings unrepaired: {}",
+                        runId, e.getMessage());
+            }
+        }
+        insertFindings(tenantId, runId, findings, false);
+        return 0;
+    }
+
+    private void insertFindings(String tenantId, long runId, List<Finding> findings, boolean repairsApplied) {
+        jdbcTemplate.batchUpdate(INSERT_FINDING_SQL, findings, findings.size(), (ps, finding) -> {
+            ps.setLong(1, runId);
+            ps.setLong(2, finding.customerId);
+            ps.setString(3, finding.type.name());
+            ps.setString(4, finding.expected);
+            ps.setString(5, finding.actual);
+            ps.setBoolean(6, repairsApplied && finding.repairable);
+            ps.setString(7, tenantId);
+        });
+    }
+
+    private void finishRun(ReconciliationRun run, RunCounters counters, RuntimeException failure) {
+        run.setCustomersScanned(counters.scanned.get());
+        run.setFindingsCount(counters.findings.get());
+        run.setRepairedCount(counters.repaired.get());
+        run.setFinishedAt(Instant.now());
+        if (failure != null) {
+            log.error("Reconciliation run {} failed", run.getId(), failure);
+            run.setStatus(ReconciliationRun.RunStatus.FAILED);
+            String message = String.valueOf(failure.getMessage());
+            run.setErrorMessage(message.length() > 500 ? message.substring(0, 500) : message);
+        } else {
+            run.setStatus(ReconciliationRun.RunStatus.COMPLETED);
+            log.info("Reconciliation run {} scanned {} customers in {} ms: {} findings, {} repaired", run.getId(),
+                    counters.scanned.get(), run.getFinishedAt().toEpochMilli() - run.getStartedAt().toEpochMilli(),
+                    counters.findings.get(), counters.repaired.get());
+        }
+        reconciliationRunRepository.save(run);
+    }
+
+    private void addCountFinding(List<Finding> findings, long customerId, FindingType type, long count) {
+        if (count > 0) {
+            findings.add(new Finding(customerId, type, "0", String.valueOf(count)));
+        }
+    }
+
+    private PreparedStatementSetter customerIdArray(List<Long> customerIds) {
+        return ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", customerIds.toArray()));
+    }
+
+    private String format(double amount) {
+        return String.format("%.2f", amount);
+    }
+
+    private ReconciliationRunDTO convertToDTO(ReconciliationRun run, List<Object[]> countsByType) {
+        ReconciliationRunDTO dto = new ReconciliationRunDTO();
+        dto.setId(run.getId());
+        dto.setStatus(run.getStatus());
+        dto.setAutoRepair(run.getAutoRepair());
+        dto.setStartedAt(run.getStartedAt());
+        dto.setFinishedAt(run.getFinishedAt());
+        dto.setCustomersScanned(run.getCustomersScanned());
+        dto.setFindingsCount(run.getFindingsCount());
+        dto.setRepairedCount(run.getRepairedCount());
+        dto.setErrorMessage(run.getErrorMessage());
+        if (countsByType != null) {
+            Map<String, Long> findingsByType = new LinkedHashMap<>();
+            Map<String, Long> repairedByType = new LinkedHashMap<>();
+            for (Object[] row : countsByType) {
+                findingsByType.put(row[0].toString(), ((Number) row[1]).longValue());
+                repairedByType.put(row[0].toString(), ((Number) row[2]).longValue());
+            }
+            dto.setFindingsByType(findingsByType);
+            dto.setRepairedByType(repairedByType);
+        }
+        return dto;
+    }
+
+    private record Finding(long customerId, FindingType type, String expected, String actual, boolean repairable) {
+        Finding(long customerId, FindingType type, String expected, String actual) {
+            this(customerId, type, expected, actual, true);
+        }
+    }
+
+    // Progress is written after every chunk so long runs can be followed
+    private final class RunCounters {
+        private final long runId;
+        private final AtomicLong scanned = new AtomicLong();
+        private final AtomicLong findings = new AtomicLong();
+        private final AtomicLong repaired = new AtomicLong();
+
+        private RunCounters(long runId) {
+            this.runId = runId;
+        }
+
+        private void add(long chunkScanned, long chunkFindings, long chunkRepaired) {
+            jdbcTemplate.update(UPDATE_PROGRESS_SQL, scanned.addAndGet(chunkScanned),
+                    findings.addAndGet(chunkFindings), repaired.addAndGet(chunkRepaired), runId);
+        }
+    }
+}
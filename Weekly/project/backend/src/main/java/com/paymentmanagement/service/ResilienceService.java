@@ -0,0 +1,280 @@
+package com.paymentmanagement.service;
+
+import com.paymentmanagement.config.EndpointClass;
+import com.paymentmanagement.config.LoadSheddingException;
+import com.paymentmanagement.dto.EndpointClassMetricsDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * Limits per endpoint class, so a burst of expensive reads cannot take the
+ * request threads and database connections that collection-day writes need.
+ * Each class has a concurrency bulkhead, an optional token-bucket rate limit
+ * and a timeout, configured under {@code app.resilience.classes.<name>};
+ * controller methods are assigned to classes with {@link EndpointClass}.
+ * Applied to every controller call by ResilienceAspect.
+ */
+@Service
+public class ResilienceService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResilienceService.class);
+
+    private static final int LATENCY_WINDOW = 1024;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Value("${app.resilience.enabled:true}")
+    private boolean enabled;
+
+    private final Map<String, EndpointPolicy> policies = new ConcurrentHashMap<>();
+    private final Map<Method, EndpointPolicy> methodPolicies = new ConcurrentHashMap<>();
+
+    /**
+     * Policy of the endpoint class the controller method belongs to, or null
+     * when the resilience layer is switched off.
+     */
+    public EndpointPolicy policyFor(Method method, Class<?> controllerClass) {
+        if (!enabled) {
+            return null;
+        }
+        return methodPolicies.computeIfAbsent(method, key -> {
+            Class<?> userClass = ClassUtils.getUserClass(controllerClass);
+            EndpointPolicy policy = policies.computeIfAbsent(endpointClass(key, userClass), this::createPolicy);
+            policy.endpoints.add(userClass.getSimpleName() + "." + key.getName());
+            return policy;
+        });
+    }
+
+    public List<EndpointClassMetricsDTO> getMetrics() {
+        return new TreeMap<>(policies).values().stream()
+                .map(EndpointPolicy::toMetrics)
+                .collect(Collectors.toList());
+    }
+
+    // Resolves every handler method up front, so the metrics list all classes
+    // from the start and the assignment is logged once
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerEndpoints() {
+        if (!enabled || !applicationContext.containsBean("requestMappingHandlerMapping")) {
+            return;
+        }
+        applicationContext.getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class)
+                .getHandlerMethods().values().stream()
+                .filter(handler -> AnnotatedElementUtils.hasAnnotation(handler.getBeanType(), RestController.class))
+                .forEach(handler -> policyFor(handler.getMethod(), handler.getBeanType()));
+        new TreeMap<>(policies).values().forEach(policy -> log.info("Endpoint class {}: {}", policy.name, policy));
+    }
+
+    private String endpointClass(Method method, Class<?> controllerClass) {
+        String override = environment.getProperty(
+                "app.resilience.methods." + controllerClass.getSimpleName() + "." + method.getName());
+        if (override != null && !override.isBlank()) {
+            return override.trim();
+        }
+        EndpointClass annotation = AnnotatedElementUtils.findMergedAnnotation(method, EndpointClass.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(controllerClass, EndpointClass.class);
+        }
+        return annotation != null ? annotation.value() : EndpointClass.DEFAULT;
+    }
+
+    // Missing settings mean no limit
+    private EndpointPolicy createPolicy(String name) {
+        String prefix = "app.resilience.classes." + name + ".";
+        double rate = environment.getProperty(prefix + "rate", Double.class, 0.0);
+        return new EndpointPolicy(name,
+                environment.getProperty(prefix + "max-concurrent", Integer.class, 0),
+                environment.getProperty(prefix + "max-wait", Duration.class, Duration.ZERO),
+                rate,
+                environment.getProperty(prefix + "burst", Integer.class, (int) Math.max(1, Math.ceil(rate))),
+                environment.getProperty(prefix + "timeout", Duration.class, Duration.ZERO));
+    }
+
+    public static final class EndpointPolicy {
+        private final String name;
+        private final int maxConcurrent;
+        private final Duration maxWait;
+        private final double rate;
+        private final int burst;
+        private final Duration timeout;
+        private final Semaphore bulkhead;
+        private final Set<String> endpoints = new ConcurrentSkipListSet<>();
+
+        // Token bucket, guarded by this
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicLong accepted = new AtomicLong();
+        private final AtomicLong rateLimited = new AtomicLong();
+        private final AtomicLong bulkheadRejected = new AtomicLong();
+        private final AtomicLong timedOut = new AtomicLong();
+        // Written by every finishing request, so slots are updated atomically
+        private final AtomicLongArray latencies = new AtomicLongArray(LATENCY_WINDOW);
+        private final AtomicLong completed = new AtomicLong();
+
+        private EndpointPolicy(String name, int maxConcurrent, Duration maxWait, double rate, int burst,
+                               Duration timeout) {
+            this.name = name;
+            this.maxConcurrent = maxConcurrent;
+            this.maxWait = maxWait;
+            this.rate = rate;
+            this.burst = burst;
+            this.timeout = timeout;
+            this.bulkhead = maxConcurrent > 0 ? new Semaphore(maxConcurrent) : null;
+            this.tokens = burst;
+        }
+
+        /**
+         * Takes a rate-limit token and a bulkhead slot, waiting up to max-wait
+         * for the slot; must be followed by {@link #release}.
+         *
+         * @throws LoadSheddingException with 429 when either is unavailable
+         */
+        public void acquire() {
+            long waitNanos = takeToken();
+            if (waitNanos > 0) {
+                rateLimited.incrementAndGet();
+                throw new LoadSheddingException(HttpStatus.TOO_MANY_REQUESTS,
+                        "Rate limit exceeded for " + name + " requests", seconds(waitNanos));
+            }
+            if (bulkhead != null) {
+                boolean acquired;
+                try {
+                    acquired = bulkhead.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    acquired = false;
+                }
+                if (!acquired) {
+                    // The request was not served, so it must not use up the rate limit
+                    refundToken();
+                    bulkheadRejected.incrementAndGet();
+                    throw new LoadSheddingException(HttpStatus.TOO_MANY_REQUESTS,
+                            "Too many concurrent " + name + " requests", 1);
+                }
+            }
+            active.incrementAndGet();
+            accepted.incrementAndGet();
+        }
+
+        public void release(long latencyNanos, boolean timedOut) {
+            active.decrementAndGet();
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+            if (timedOut) {
+                this.timedOut.incrementAndGet();
+            }
+            latencies.set((int) (completed.getAndIncrement() % LATENCY_WINDOW), latencyNanos);
+        }
+
+        /** Deadline for a request started at the given nanoTime, or null without a timeout. */
+        public Long deadlineFrom(long startedNanos) {
+            return timeout.isZero() ? null : startedNanos + timeout.toNanos();
+        }
+
+        public LoadSheddingException timeoutException() {
+            return new LoadSheddingException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Request exceeded the " + timeout.toMillis() + " ms limit for " + name + " requests", 1);
+        }
+
+        // Returns 0 when a token was taken, otherwise the nanos until one is available
+        private synchronized long takeToken() {
+            if (rate <= 0) {
+                return 0;
+            }
+            long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - refilledAt) * rate / 1_000_000_000.0);
+            refilledAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) ((1 - tokens) / rate * 1_000_000_000.0);
+        }
+
+        private synchronized void refundToken() {
+            if (rate > 0) {
+                tokens = Math.min(burst, tokens + 1);
+            }
+        }
+
+        private static long seconds(long nanos) {
+            return Math.max(1, (long) Math.ceil(nanos / 1_000_000_000.0));
+        }
+
+        private EndpointClassMetricsDTO toMetrics() {
+            int samples = (int) Math.min(completed.get(), LATENCY_WINDOW);
+            long[] window = new long[samples];
+            for (int i = 0; i < samples; i++) {
+                window[i] = latencies.get(i);
+            }
+            Arrays.sort(window);
+
+            EndpointClassMetricsDTO dto = new EndpointClassMetricsDTO();
+            dto.setName(name);
+            dto.setEndpoints(List.copyOf(endpoints));
+            dto.setMaxConcurrent(maxConcurrent);
+            dto.setActive(active.get());
+            dto.setRatePerSecond(rate);
+            dto.setTimeoutMs(timeout.toMillis());
+            dto.setAccepted(accepted.get());
+            dto.setRateLimited(rateLimited.get());
+            dto.setBulkheadRejected(bulkheadRejected.get());
+            dto.setTimedOut(timedOut.get());
+            dto.setP50Ms(percentile(window, 50));
+            dto.setP95Ms(percentile(window, 95));
+            dto.setP99Ms(percentile(window, 99));
+            return dto;
+        }
+
+        private static Double percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return null;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("max-concurrent=%s max-wait=%s rate=%s timeout=%s endpoints=%s",
+                    maxConcurrent > 0 ? maxConcurrent : "unlimited", maxWait,
+                    rate > 0 ? rate + "/s (burst " + burst + ")" : "unlimited",
+                    timeout.isZero() ? "none" : timeout, endpoints);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.paymentmanagement.service;
+
+import com.paymentmanagement.config.TenantContext;
+import com.paymentmanagement.dto.CustomerRiskDTO;
+import com.paymentmanagement.entity.Payment;
+import com.paymentmanagement.event.CustomerChangedEvent;
+import com.paymentmanagement.event.PaymentStatusChangedEvent;
+import com.paymentmanagement.repository.CustomerRiskScoreRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scores customers by default risk from their payment history. Scores are
+ * refreshed per customer after each committed payment or customer change, and
+ * fully recomputed per tenant on a schedule in parallel customer-id chunks.
+ */
+@Service
+public class RiskScoringService {
+
+    private static final Logger log = LoggerFactory.getLogger(RiskScoringService.class);
+
+    // Score weights (sum to 100)
+    private static final double MISS_RATE_WEIGHT = 50.0;
+    private static final double CONSECUTIVE_MISSES_WEIGHT = 25.0;
+    private static final double LATENESS_WEIGHT = 15.0;
+    private static final double EXPOSURE_WEIGHT = 10.0;
+    // Feature values at or above these caps score the full weight
+    private static final int CONSECUTIVE_MISSES_CAP = 4;
+    private static final double DAYS_LATE_CAP = 14.0;
+
+    private static final int MAX_TOP_LIMIT = 500;
+
+    private static final String HISTORY_SQL =
+            "SELECT c.id, c.total_amount, p.status, p.payment_date, p.paid_date, p.amount, c.tenant_id " +
+            "FROM customers c LEFT JOIN payments p ON p.customer_id = c.id AND p.deleted_at IS NULL " +
+            "WHERE c.tenant_id = ? AND c.id BETWEEN ? AND ? AND c.deleted_at IS NULL ORDER BY c.id, p.week_number";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO customer_risk_scores " +
+            "(customer_id, score, miss_rate, consecutive_misses, avg_days_late, exposure, computed_at, tenant_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (customer_id) DO UPDATE SET " +
+            "score = EXCLUDED.score, miss_rate = EXCLUDED.miss_rate, consecutive_misses = EXCLUDED.consecutive_misses, " +
+            "avg_days_late = EXCLUDED.avg_days_late, exposure = EXCLUDED.exposure, computed_at = EXCLUDED.computed_at";
+
+    private static final String DELETE_ORPHANS_SQL =
+            "DELETE FROM customer_risk_scores r " +
+            "WHERE r.tenant_id = ? AND r.customer_id BETWEEN ? AND ? " +
+            "AND NOT EXISTS (SELECT 1 FROM customers c WHERE c.id = r.customer_id AND c.deleted_at IS NULL)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CustomerRiskScoreRepository customerRiskScoreRepository;
+
+    @Value("${app.risk.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.risk.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.tenants:" + TenantContext.DEFAULT_TENANT + "}")
+    private List<String> tenants;
+
+    private final Set<String> runningTenants = ConcurrentHashMap.newKeySet();
+
+    @Transactional(readOnly = true)
+    public List<CustomerRiskDTO> getTopAtRisk(int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_TOP_LIMIT));
+        return customerRiskScoreRepository.findTopAtRisk(PageRequest.of(0, size));
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onPaymentStatusChanged(PaymentStatusChangedEvent event) {
+        recomputeRange(event.getTenantId(), event.getCustomerId(), event.getCustomerId());
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        if (event.getChangeType() == CustomerChangedEvent.ChangeType.DELETED) {
+            jdbcTemplate.update("DELETE FROM customer_risk_scores WHERE customer_id = ?", event.getCustomerId());
+        } else {
+            recomputeRange(event.getTenantId(), event.getCustomerId(), event.getCustomerId());
+        }
+    }
+
+    @Async
+    public void recomputeTenantAsync(String tenantId) {
+        recomputeTenant(tenantId);
+    }
+
+    // Nightly pass picks up installments that became overdue without a status
+    // change; one tenant at a time
+    @Scheduled(cron = "${app.risk.recompute-cron:0 30 2 * * *}")
+    public void recomputeAll() {
+        for (String tenantId : tenants) {
+            recomputeTenant(tenantId);
+        }
+    }
+
+    private void recomputeTenant(String tenantId) {
+        if (!runningTenants.add(tenantId)) {
+            log.info("Risk score recompute of tenant {} already running, skipping", tenantId);
+            return;
+        }
+        try {
+            long[] bounds = jdbcTemplate.queryForObject(
+                    "SELECT MIN(id), MAX(id), COUNT(*) FROM customers WHERE tenant_id = ?",
+                    (rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2), rs.getLong(3) }, tenantId);
+            if (bounds == null || bounds[2] == 0) {
+                return;
+            }
+            long started = System.currentTimeMillis();
+            AtomicLong scored = new AtomicLong();
+            // Bounded pool: each leaf holds one JDBC connection while it runs
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(new RecomputeTask(tenantId, bounds[0], bounds[1], scored));
+            } finally {
+                pool.shutdown();
+            }
+            log.info("Recomputed {} risk scores of tenant {} in {} ms", scored.get(), tenantId,
+                    System.currentTimeMillis() - started);
+        } finally {
+            runningTenants.remove(tenantId);
+        }
+    }
+
+    private int recomputeRange(String tenantId, long fromId, long toId) {
+        LocalDate today = LocalDate.now();
+        Timestamp computedAt = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>();
+        RiskFeatures[] current = new RiskFeatures[1];
+
+        jdbcTemplate.query(HISTORY_SQL, (RowCallbackHandler) rs -> {
+            long customerId = rs.getLong(1);
+            if (current[0] == null || current[0].customerId != customerId) {
+                if (current[0] != null) {
+                    rows.add(current[0].toRow(computedAt));
+                }
+                current[0] = new RiskFeatures(customerId, rs.getString(7), rs.getDouble(2), today);
+            }
+            String status = rs.getString(3);
+            if (status != null) {
+                Date paidDate = rs.getDate(5);
+                current[0].add(Payment.PaymentStatus.valueOf(status), rs.getDate(4).toLocalDate(),
+                        paidDate != null ? paidDate.toLocalDate() : null, rs.getDouble(6));
+            }
+        }, tenantId, fromId, toId);
+        if (current[0] != null) {
+            rows.add(current[0].toRow(computedAt));
+        }
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        }
+        jdbcTemplate.update(DELETE_ORPHANS_SQL, tenantId, fromId, toId);
+        return rows.size();
+    }
+
+    private class RecomputeTask extends RecursiveAction {
+        private final String tenantId;
+        private final long fromId;
+        private final long toId;
+        private final AtomicLong scored;
+
+        RecomputeTask(String tenantId, long fromId, long toId, AtomicLong scored) {
+            this.tenantId = tenantId;
+            this.fromId = fromId;
+            this.toId = toId;
+            this.scored = scored;
+        }
+
+        @Override
+        protected void compute() {
+            if (toId - fromId < chunkSize) {
+                scored.addAndGet(recomputeRange(tenantId, fromId, toId));
+                return;
+            }
+            long mid = fromId + (toId - fromId) / 2;
+            invokeAll(new RecomputeTask(tenantId, fromId, mid, scored),
+                    new RecomputeTask(tenantId, mid + 1, toId, scored));
+        }
+    }
+
+    /**
+     * Features of one customer, accumulated from payments in week order.
+     * Only installments that have fallen due count towards miss rate and lateness.
+     */
+    static class RiskFeatures {
+        private final long customerId;
+        private final String tenantId;
+        private final double totalAmount;
+        private final LocalDate today;
+        private int elapsed;
+        private int missed;
+        private int consecutiveMisses;
+        private long daysLate;
+        private double collected;
+
+        RiskFeatures(long customerId, String tenantId, double totalAmount, LocalDate today) {
+            this.customerId = customerId;
+            this.tenantId = tenantId;
+            this.totalAmount = totalAmount;
+            this.today = today;
+        }
+
+        void add(Payment.PaymentStatus status, LocalDate paymentDate, LocalDate paidDate, double amount) {
+            if (status == Payment.PaymentStatus.PAID) {
+                collected += amount;
+            }
+            if (paymentDate.isAfter(today)) {
+                return;
+            }
+            elapsed++;
+            // Unpaid installments keep getting later until they are paid
+            LocalDate settled = status == Payment.PaymentStatus.PAID && paidDate != null ? paidDate : today;
+            daysLate += Math.max(0, ChronoUnit.DAYS.between(paymentDate, settled));
+            if (status == Payment.PaymentStatus.MISSED) {
+                missed++;
+                consecutiveMisses++;
+            } else {
+                consecutiveMisses = 0;
+            }
+        }
+
+        double missRate() {
+            return elapsed == 0 ? 0.0 : (double) missed / elapsed;
+        }
+
+        double avgDaysLate() {
+            return elapsed == 0 ? 0.0 : (double) daysLate / elapsed;
+        }
+
+        double exposure() {
+            return Math.max(0.0, totalAmount - collected);
+        }
+
+        double score() {
+            double exposureRatio = totalAmount > 0 ? exposure() / totalAmount : 0.0;
+            return MISS_RATE_WEIGHT * missRate()
+                    + CONSECUTIVE_MISSES_WEIGHT * Math.min(consecutiveMisses, CONSECUTIVE_MISSES_CAP) / CONSECUTIVE_MISSES_CAP
+                    + LATENESS_WEIGHT * Math.min(avgDaysLate(), DAYS_LATE_CAP) / DAYS_LATE_CAP
+                    + EXPOSURE_WEIGHT * exposureRatio;
+        }
+
+        Object[] toRow(Timestamp computedAt) {
+            return new Object[] {
+                customerId, score(), missRate(), consecutiveMisses, avgDaysLate(), exposure(), computedAt, tenantId
+            };
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.paymentmanagement.service;
+
+/**
+ * The client sent the version it read, and the row has changed since. Unlike
+ * an OptimisticLockingFailureException this is not retried: re-reading cannot
+ * make the client's version current. Controllers answer it with 409.
+ */
+public class StaleVersionException extends RuntimeException {
+
+    public StaleVersionException(String entity, Object id, Long expectedVersion, Long actualVersion) {
+        super(entity + " " + id + " is at version " + actualVersion + ", not " + expectedVersion);
+    }
+}
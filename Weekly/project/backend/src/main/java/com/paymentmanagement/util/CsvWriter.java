@@ -0,0 +1,61 @@
+package com.paymentmanagement.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal RFC 4180 CSV writer that writes rows straight through to the
+ * underlying writer, so exports never hold more than one row in memory.
+ * Text that a spreadsheet would run as a formula is prefixed with a quote,
+ * unless it is just a signed number such as a "+91 98765 43210" phone.
+ */
+public class CsvWriter {
+
+    // A sign followed only by digits, spaces and one decimal point cannot call anything
+    private static final Pattern SIGNED_NUMBER = Pattern.compile("[+-]\\d[\\d ]*(\\.\\d+)?");
+
+    private final Writer writer;
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void writeRow(Object... values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] instanceof CharSequence text) {
+                    writeValue(neutralizeFormula(text.toString()));
+                } else if (values[i] != null) {
+                    writeValue(values[i].toString());
+                }
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Only text is checked: numbers are written as they are
+    private static String neutralizeFormula(String value) {
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0
+                && !SIGNED_NUMBER.matcher(value).matches()) {
+            return "'" + value;
+        }
+        return value;
+    }
+
+    private void writeValue(String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
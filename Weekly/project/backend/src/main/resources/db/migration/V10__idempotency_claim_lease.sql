@@ -0,0 +1,3 @@
+-- When the current request claimed the key; a claim left unanswered past the
+-- lease (app.idempotency.claim-lease) belonged to a crashed request and can be taken over
+ALTER TABLE idempotency_keys ADD COLUMN IF NOT EXISTS claimed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now();
@@ -0,0 +1,4 @@
+-- Hibernate allocates customer and payment ids 50 at a time (pooled optimizer),
+-- so inserts can be batched; the increments must match the entities' allocationSize
+ALTER SEQUENCE customers_id_seq INCREMENT BY 50;
+ALTER SEQUENCE payments_id_seq INCREMENT BY 50;
@@ -0,0 +1,29 @@
+-- Schema of the first release. IF NOT EXISTS keeps this a no-op on databases
+-- that Hibernate created before migrations existed (see spring.flyway.baseline-version).
+
+CREATE TABLE IF NOT EXISTS admins (
+    id       BIGSERIAL PRIMARY KEY,
+    phone    VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_admins_phone UNIQUE (phone)
+);
+
+CREATE TABLE IF NOT EXISTS customers (
+    id                   BIGSERIAL PRIMARY KEY,
+    name                 VARCHAR(255)     NOT NULL,
+    phone                VARCHAR(255)     NOT NULL,
+    total_amount         DOUBLE PRECISION NOT NULL,
+    date_of_amount_taken DATE             NOT NULL,
+    day_of_amount_taken  VARCHAR(255)     NOT NULL,
+    weekly_amount        DOUBLE PRECISION NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS payments (
+    id           BIGSERIAL PRIMARY KEY,
+    payment_date DATE             NOT NULL,
+    amount       DOUBLE PRECISION NOT NULL,
+    status       VARCHAR(255)     NOT NULL CHECK (status IN ('PAID', 'DUE', 'MISSED')),
+    week_number  INTEGER          NOT NULL,
+    paid_date    DATE,
+    customer_id  BIGINT           NOT NULL REFERENCES customers (id)
+);
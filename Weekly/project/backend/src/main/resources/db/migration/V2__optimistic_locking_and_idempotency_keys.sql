@@ -0,0 +1,15 @@
+-- Version columns for JPA optimistic locking on customers and payments
+ALTER TABLE customers ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- Stored responses of requests sent with an Idempotency-Key header; response_status
+-- is null while the first request is still running
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(64)              PRIMARY KEY,
+    request_hash    VARCHAR(64)              NOT NULL,
+    response_status INTEGER,
+    response_body   TEXT,
+    expires_at      TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
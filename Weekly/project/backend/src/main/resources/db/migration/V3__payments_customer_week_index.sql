@@ -0,0 +1,2 @@
+-- Ledger export and schedule reads walk a customer's payments in week order
+CREATE INDEX IF NOT EXISTS idx_payments_customer_week ON payments (customer_id, week_number);
@@ -0,0 +1,13 @@
+-- Default-risk score per customer, kept apart from customers so recomputing it
+-- never bumps the customer's version
+CREATE TABLE IF NOT EXISTS customer_risk_scores (
+    customer_id        BIGINT                   PRIMARY KEY,
+    score              DOUBLE PRECISION         NOT NULL,
+    miss_rate          DOUBLE PRECISION         NOT NULL,
+    consecutive_misses INTEGER                  NOT NULL,
+    avg_days_late      DOUBLE PRECISION         NOT NULL,
+    exposure           DOUBLE PRECISION         NOT NULL,
+    computed_at        TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_customer_risk_scores_score ON customer_risk_scores (score DESC);
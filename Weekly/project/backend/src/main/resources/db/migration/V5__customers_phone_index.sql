@@ -0,0 +1,2 @@
+-- Phone lookups and the repeat-borrower check
+CREATE INDEX IF NOT EXISTS idx_customers_phone ON customers (phone);
@@ -0,0 +1,48 @@
+-- Every row belongs to a tenant. Rows that predate tenancy join the 'default'
+-- tenant, which is also what requests without X-Tenant-ID use.
+ALTER TABLE admins ADD COLUMN IF NOT EXISTS tenant_id VARCHAR(32) NOT NULL DEFAULT 'default';
+ALTER TABLE customers ADD COLUMN IF NOT EXISTS tenant_id VARCHAR(32) NOT NULL DEFAULT 'default';
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS tenant_id VARCHAR(32) NOT NULL DEFAULT 'default';
+ALTER TABLE customer_risk_scores ADD COLUMN IF NOT EXISTS tenant_id VARCHAR(32) NOT NULL DEFAULT 'default';
+
+-- Payments and risk scores carry their customer's tenant
+UPDATE payments p SET tenant_id = c.tenant_id
+FROM customers c
+WHERE c.id = p.customer_id AND p.tenant_id <> c.tenant_id;
+
+UPDATE customer_risk_scores r SET tenant_id = c.tenant_id
+FROM customers c
+WHERE c.id = r.customer_id AND r.tenant_id <> c.tenant_id;
+
+-- Admin phone numbers are unique per tenant instead of globally. Databases created
+-- by Hibernate have the global constraint under a generated name, so look it up.
+DO $$
+DECLARE
+    phone_constraint TEXT;
+BEGIN
+    FOR phone_constraint IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attname = 'phone'
+        WHERE c.conrelid = 'admins'::regclass AND c.contype = 'u' AND c.conkey = ARRAY[a.attnum]
+    LOOP
+        EXECUTE format('ALTER TABLE admins DROP CONSTRAINT %I', phone_constraint);
+    END LOOP;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = 'admins'::regclass AND conname = 'uk_admins_tenant_phone') THEN
+        ALTER TABLE admins ADD CONSTRAINT uk_admins_tenant_phone UNIQUE (tenant_id, phone);
+    END IF;
+END $$;
+
+-- Tenant-leading indexes replace the global ones
+DROP INDEX IF EXISTS idx_customers_phone;
+CREATE INDEX IF NOT EXISTS idx_customers_tenant_phone ON customers (tenant_id, phone);
+
+DROP INDEX IF EXISTS idx_customer_risk_scores_score;
+CREATE INDEX IF NOT EXISTS idx_customer_risk_scores_tenant_score ON customer_risk_scores (tenant_id, score DESC);
+
+CREATE INDEX IF NOT EXISTS idx_payments_tenant_status_date ON payments (tenant_id, status, payment_date);
+
+-- Idempotency keys are stored prefixed with the tenant id
+ALTER TABLE idempotency_keys ALTER COLUMN idempotency_key TYPE VARCHAR(100);
@@ -0,0 +1,20 @@
+-- Append-only history of payment status changes, range-partitioned by month on ts (UTC).
+-- PaymentAuditService creates the monthly partitions ahead of time.
+-- Fixed-width columns come first so rows pack without alignment padding; statuses
+-- are stored as the PaymentStatus ordinal (new values must be appended).
+CREATE TABLE IF NOT EXISTS payment_audit_log (
+    ts            TIMESTAMP WITH TIME ZONE NOT NULL,
+    id            BIGSERIAL,
+    customer_id   BIGINT                   NOT NULL,
+    payment_id    BIGINT                   NOT NULL,
+    amount        DOUBLE PRECISION         NOT NULL,
+    old_paid_date DATE,
+    new_paid_date DATE,
+    old_status    SMALLINT                 NOT NULL,
+    new_status    SMALLINT                 NOT NULL,
+    tenant_id     VARCHAR(32)              NOT NULL,
+    actor         VARCHAR(64)              NOT NULL
+) PARTITION BY RANGE (ts);
+
+CREATE INDEX IF NOT EXISTS idx_payment_audit_customer_ts ON payment_audit_log (customer_id, ts);
+CREATE INDEX IF NOT EXISTS idx_payment_audit_tenant_ts ON payment_audit_log (tenant_id, ts);
@@ -0,0 +1,31 @@
+-- Reconciliation runs and the inconsistencies they find; findings are written in
+-- bulk through JDBC by ReconciliationService
+CREATE TABLE IF NOT EXISTS reconciliation_runs (
+    id                BIGSERIAL                PRIMARY KEY,
+    status            VARCHAR(16)              NOT NULL CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED')),
+    auto_repair       BOOLEAN                  NOT NULL,
+    started_at        TIMESTAMP WITH TIME ZONE NOT NULL,
+    finished_at       TIMESTAMP WITH TIME ZONE,
+    customers_scanned BIGINT                   NOT NULL,
+    findings_count    BIGINT                   NOT NULL,
+    repaired_count    BIGINT                   NOT NULL,
+    error_message     VARCHAR(500),
+    tenant_id         VARCHAR(32)              NOT NULL DEFAULT 'default'
+);
+
+CREATE INDEX IF NOT EXISTS idx_reconciliation_runs_tenant_started ON reconciliation_runs (tenant_id, started_at);
+
+CREATE TABLE IF NOT EXISTS reconciliation_findings (
+    id             BIGSERIAL   PRIMARY KEY,
+    run_id         BIGINT      NOT NULL,
+    customer_id    BIGINT      NOT NULL,
+    type           VARCHAR(32) NOT NULL CHECK (type IN ('WEEKLY_AMOUNT_MISMATCH', 'SCHEDULE_TOTAL_MISMATCH',
+                       'UNPAID_AMOUNT_MISMATCH', 'PAID_AMOUNT_MISMATCH', 'UNPAID_DATE_MISMATCH', 'MISSING_WEEKS',
+                       'DUPLICATE_WEEKS', 'PAID_WITHOUT_PAID_DATE', 'PAID_DATE_ON_UNPAID')),
+    expected_value VARCHAR(64),
+    actual_value   VARCHAR(64),
+    repaired       BOOLEAN     NOT NULL,
+    tenant_id      VARCHAR(32) NOT NULL DEFAULT 'default'
+);
+
+CREATE INDEX IF NOT EXISTS idx_reconciliation_findings_run_customer ON reconciliation_findings (run_id, customer_id);
@@ -0,0 +1,105 @@
+package com.paymentmanagement.config;
+
+import com.paymentmanagement.service.ResilienceService;
+import com.paymentmanagement.service.ResilienceService.EndpointPolicy;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResilienceAspectTest {
+
+    @Mock
+    private ResilienceService resilienceService;
+
+    @Mock
+    private EndpointPolicy policy;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    @InjectMocks
+    private ResilienceAspect aspect;
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    @BeforeEach
+    void setUp() throws Throwable {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(Object.class.getMethod("toString"));
+        when(joinPoint.getTarget()).thenReturn(new Object());
+        when(resilienceService.policyFor(any(), any())).thenReturn(policy);
+        StreamingResponseBody body = outputStream -> outputStream.write('x');
+        when(joinPoint.proceed()).thenReturn(ResponseEntity.ok(body));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void slotIsReleasedWhenTheBodyIsNeverWritten() throws Throwable {
+        aspect.guard(joinPoint);
+        verify(policy, never()).release(anyLong(), any(Boolean.class));
+
+        // e.g. the async executor rejected the task, or the client went away first
+        asyncInterceptor().afterCompletion(new ServletWebRequest(request), () -> null);
+
+        verify(policy, times(1)).release(anyLong(), eq(false));
+    }
+
+    @Test
+    void slotIsReleasedOnceWhenTheBodyIsWritten() throws Throwable {
+        @SuppressWarnings("unchecked")
+        ResponseEntity<StreamingResponseBody> response = (ResponseEntity<StreamingResponseBody>) aspect.guard(joinPoint);
+
+        response.getBody().writeTo(new ByteArrayOutputStream());
+        asyncInterceptor().afterCompletion(new ServletWebRequest(request), () -> null);
+
+        verify(policy, times(1)).release(anyLong(), any(Boolean.class));
+    }
+
+    @Test
+    void asyncTimeoutReleasesTheSlotAsTimedOut() throws Throwable {
+        aspect.guard(joinPoint);
+
+        asyncInterceptor().handleTimeout(new ServletWebRequest(request), () -> null);
+        asyncInterceptor().afterCompletion(new ServletWebRequest(request), () -> null);
+
+        verify(policy, times(1)).release(anyLong(), eq(true));
+        verify(policy, times(1)).release(anyLong(), any(Boolean.class));
+    }
+
+    private CallableProcessingInterceptor asyncInterceptor() {
+        return WebAsyncUtils.getAsyncManager(request).getCallableInterceptor(ResilienceAspect.class.getName());
+    }
+}
@@ -0,0 +1,56 @@
+package com.paymentmanagement.service;
+
+import com.paymentmanagement.util.CsvWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ExportService exportService;
+
+    @Test
+    void ledgerKeepsPhonesAndNegativeAmounts() throws Exception {
+        StringWriter out = new StringWriter();
+        exportService.exportPaymentLedger("default", new CsvWriter(out));
+
+        ArgumentCaptor<RowCallbackHandler> handler = ArgumentCaptor.forClass(RowCallbackHandler.class);
+        verify(jdbcTemplate).query(anyString(), handler.capture(), any(Object[].class));
+
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(7L);
+        when(rs.getLong(2)).thenReturn(3L);
+        when(rs.getString(3)).thenReturn("=cmd");
+        when(rs.getString(4)).thenReturn("+91 98765 43210");
+        when(rs.getInt(5)).thenReturn(2);
+        when(rs.getObject(6, LocalDate.class)).thenReturn(LocalDate.of(2024, 1, 8));
+        when(rs.getBigDecimal(7)).thenReturn(new BigDecimal("-50.0"));
+        when(rs.getString(8)).thenReturn("PAID");
+        handler.getValue().processRow(rs);
+
+        String row = out.toString().split("\r\n")[1];
+        assertEquals("7,3,'=cmd,+91 98765 43210,2,2024-01-08,-50.0,PAID,", row);
+    }
+}
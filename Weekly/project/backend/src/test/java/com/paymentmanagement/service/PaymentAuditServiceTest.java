@@ -0,0 +1,52 @@
+package com.paymentmanagement.service;
+
+import com.paymentmanagement.entity.Payment;
+import com.paymentmanagement.event.PaymentStatusChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentAuditServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PaymentAuditService paymentAuditService;
+
+    @Test
+    void recordingNeverCreatesPartitions() {
+        paymentAuditService.record(new PaymentStatusChangedEvent("default", 7L, 3L, Payment.PaymentStatus.DUE,
+                Payment.PaymentStatus.PAID, 1000.0, null, null, "admin", Instant.now()));
+
+        verify(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void partitionsAreCreatedOnceAhead() {
+        ReflectionTestUtils.setField(paymentAuditService, "partitionsAhead", 2);
+
+        paymentAuditService.ensurePartitions();
+        paymentAuditService.ensurePartitions();
+
+        verify(jdbcTemplate, times(3)).execute(anyString());
+    }
+}
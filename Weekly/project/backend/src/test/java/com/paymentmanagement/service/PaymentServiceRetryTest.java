@@ -0,0 +1,64 @@
+package com.paymentmanagement.service;
+
+import com.paymentmanagement.entity.Payment;
+import com.paymentmanagement.repository.PaymentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig(PaymentServiceRetryTest.Config.class)
+class PaymentServiceRetryTest {
+
+    @Configuration
+    @EnableRetry
+    @Import(PaymentService.class)
+    static class Config {}
+
+    @MockBean
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Test
+    void staleVersionIsNotRetried() {
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment(5L)));
+
+        assertThrows(StaleVersionException.class,
+                () -> paymentService.updatePaymentStatus(1L, Payment.PaymentStatus.PAID, 4L));
+
+        verify(paymentRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void concurrentWriteIsRetried() {
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment(5L)));
+        when(paymentRepository.saveAndFlush(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Payment.class, 1L));
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> paymentService.updatePaymentStatus(1L, Payment.PaymentStatus.PAID, 5L));
+
+        verify(paymentRepository, times(3)).findById(1L);
+    }
+
+    private static Payment payment(Long version) {
+        Payment payment = new Payment();
+        payment.setStatus(Payment.PaymentStatus.DUE);
+        payment.setVersion(version);
+        return payment;
+    }
+}
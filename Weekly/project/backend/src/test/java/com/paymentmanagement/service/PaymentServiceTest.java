@@ -0,0 +1,52 @@
+package com.paymentmanagement.service;
+
+import com.paymentmanagement.entity.Customer;
+import com.paymentmanagement.entity.Payment;
+import com.paymentmanagement.event.CustomerChangedEvent;
+import com.paymentmanagement.repository.PaymentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PaymentService paymentService;
+
+    @Test
+    void deletePaymentPublishesCustomerChange() {
+        Customer customer = new Customer();
+        customer.setId(3L);
+        Payment payment = new Payment();
+        payment.setId(7L);
+        payment.setCustomer(customer);
+        payment.setTenantId("acme");
+        when(paymentRepository.findById(7L)).thenReturn(Optional.of(payment));
+
+        paymentService.deletePayment(7L);
+
+        verify(paymentRepository).delete(payment);
+        ArgumentCaptor<CustomerChangedEvent> event = ArgumentCaptor.forClass(CustomerChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals("acme", event.getValue().getTenantId());
+        assertEquals(3L, event.getValue().getCustomerId());
+        assertEquals(CustomerChangedEvent.ChangeType.UPDATED, event.getValue().getChangeType());
+    }
+}
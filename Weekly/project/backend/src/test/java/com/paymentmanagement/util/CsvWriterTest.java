@@ -0,0 +1,35 @@
+package com.paymentmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvWriterTest {
+
+    @Test
+    void phonesAndNegativeAmountsAreWrittenUnchanged() {
+        assertEquals("+91 98765 43210,-50.0,-50.0,2024-01-08\r\n",
+                write("+91 98765 43210", new BigDecimal("-50.0"), "-50.0", LocalDate.of(2024, 1, 8)));
+    }
+
+    @Test
+    void formulasAreNeutralized() {
+        assertEquals("\"'=HYPERLINK(\"\"x\"\")\",'+1+cmd|' /C calc'!A0,'@SUM(A1),'-2+3\r\n",
+                write("=HYPERLINK(\"x\")", "+1+cmd|' /C calc'!A0", "@SUM(A1)", "-2+3"));
+    }
+
+    @Test
+    void quotesValuesWithSeparators() {
+        assertEquals("\"Smith, J\",\"say \"\"hi\"\"\",\r\n", write("Smith, J", "say \"hi\"", null));
+    }
+
+    private static String write(Object... values) {
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRow(values);
+        return out.toString();
+    }
+}